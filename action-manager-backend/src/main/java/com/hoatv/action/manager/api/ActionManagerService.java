@@ -4,6 +4,8 @@ import com.hoatv.action.manager.collections.ActionDocument;
 import com.hoatv.action.manager.collections.ActionStatus;
 import com.hoatv.action.manager.dtos.ActionDefinitionDTO;
 import com.hoatv.action.manager.dtos.ActionOverviewDTO;
+import com.hoatv.action.manager.dtos.ActionSearchMode;
+import com.hoatv.action.manager.dtos.CursorPageResponseDTO;
 import com.hoatv.action.manager.dtos.JobDefinitionDTO;
 import com.hoatv.action.manager.dtos.RestoreResponse;
 import com.hoatv.fwk.common.ultilities.Pair;
@@ -59,8 +61,28 @@ public interface ActionManagerService {
 
     Page<ActionOverviewDTO> search(String search, Pageable pageable);
 
+    /***
+     * Search actions by name or description
+     * @param search
+     * @param searchMode TEXT uses the text index ordered by relevance, REGEX matches any substring
+     * @param pageable
+     * @return a page of matching actions
+     */
+    Page<ActionOverviewDTO> search(String search, ActionSearchMode searchMode, Pageable pageable);
+
     Page<ActionOverviewDTO> getActions(List<ActionStatus> filterStatus, Pageable pageable);
 
+    /***
+     * Get actions with keyset pagination, favorite actions first then the newest ones
+     * @param filterStatus
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param pageSize
+     * @param includeTotal count the matching actions, it costs a full count on every page
+     * @return the actions after the cursor
+     */
+    CursorPageResponseDTO<ActionOverviewDTO> getActions(List<ActionStatus> filterStatus, String cursor,
+                                                        int pageSize, boolean includeTotal);
+
     ActionDocument createActionDocument(ActionDefinitionDTO actionDefinition);
 
     String addJobsToAction(String hash, List<JobDefinitionDTO> jobDefinitionDTOs);
@@ -2,7 +2,13 @@ package com.hoatv.action.manager.api;
 
 public interface ImmutableAction {
 
+    String getHash();
+
     String getActionName();
     
     String getConfigurations();
+
+    default long getUpdatedAt() {
+        return 0;
+    }
 }
@@ -32,4 +32,12 @@ public interface ImmutableJob {
     String getActionId();
     
     JobStatus getJobStatus();
+
+    default long getUpdatedAt() {
+        return 0;
+    }
+
+    default String getContentHash() {
+        return null;
+    }
 }
@@ -3,14 +3,17 @@ package com.hoatv.action.manager.api;
 import com.hoatv.action.manager.collections.JobDocument;
 import com.hoatv.action.manager.collections.JobExecutionStatus;
 import com.hoatv.action.manager.collections.JobResultDocument;
+import com.hoatv.action.manager.dtos.CursorPageResponseDTO;
 import com.hoatv.action.manager.dtos.JobDefinitionDTO;
 import com.hoatv.action.manager.dtos.JobDetailDTO;
 import com.hoatv.action.manager.dtos.JobOverviewDTO;
+import com.hoatv.action.manager.dtos.JobRunDTO;
 import com.hoatv.action.manager.repositories.JobDocumentRepository;
 import com.hoatv.action.manager.services.ActionExecutionContext;
 import com.hoatv.fwk.common.ultilities.Pair;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Map;
@@ -28,13 +31,40 @@ public interface JobManagerService {
 
     JobDocument getJobDocument(String hash);
 
+    /***
+     * Get the job result of a job with its latest state, including the state not written yet
+     * @param jobId
+     * @return the job result or null when the job has no result
+     */
+    JobResultDocument getJobResultDocument(String jobId);
+
     JobDetailDTO getJobDetails(String hash);
+
+    /***
+     * Get the recorded runs of a job, runs older than the retention are not kept
+     * @param jobId
+     * @param pageable
+     * @return a page of job runs
+     */
+    Page<JobRunDTO> getJobRuns(String jobId, Pageable pageable);
+
     List<JobDocumentRepository.JobIdImmutable> getJobIdsByAction(String actionId);
 
     Page<JobOverviewDTO> getOverviewJobs(PageRequest pageRequest);
 
     Page<JobOverviewDTO> getOverviewJobs(PageRequest pageRequest, JobExecutionStatus statusFilter);
 
+    /***
+     * Get the newest jobs with keyset pagination
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param pageSize
+     * @param statusFilter
+     * @param includeTotal count the matching jobs, it costs a full count on every page
+     * @return the jobs after the cursor
+     */
+    CursorPageResponseDTO<JobOverviewDTO> getOverviewJobs(String cursor, int pageSize,
+                                                          JobExecutionStatus statusFilter, boolean includeTotal);
+
     void deleteJobsByActionId(String actionId);
 
     void processJob(ImmutableJob immutableJob, 
@@ -51,11 +81,26 @@ public interface JobManagerService {
                                            PageRequest pageRequest,
                                            String searchText);
 
+    CursorPageResponseDTO<JobOverviewDTO> getJobsFromAction(String actionId,
+                                                            String cursor,
+                                                            int pageSize,
+                                                            String searchText,
+                                                            boolean includeTotal);
+
     void processNonePersistenceJob(ImmutableJob immutableJob, ImmutableAction immutableAction);
 
     Pair<String, String> initialJobs(JobDefinitionDTO jobDefinitionDTO, 
                                      String actionId);
 
+    /***
+     * Insert the jobs and their initial results of an action with bulk writes
+     * @param jobDefinitionDTOs
+     * @param actionId
+     * @return a map of job id and job result id
+     */
+    Map<String, String> initialJobs(List<JobDefinitionDTO> jobDefinitionDTOs,
+                                    String actionId);
+
     Map<String, String> getJobsFromAction(String actionId, 
                                           Predicate<JobResultDocument> filter);
 
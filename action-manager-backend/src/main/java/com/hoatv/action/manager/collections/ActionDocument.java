@@ -4,12 +4,19 @@ import com.hoatv.action.manager.api.ImmutableAction;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.UUID;
 
 @Document("actions")
+@CompoundIndexes({
+        // Action pages with the favorite actions first then the newest ones
+        @CompoundIndex(name = "actions-favorite-created-at-id", def = "{'isFavorite': -1, 'createdAt': -1, '_id': -1}")
+})
 @Getter
 @Setter
 @Builder
@@ -24,12 +31,16 @@ public class ActionDocument implements ImmutableAction {
 
     @TextIndexed(weight = 2)
     private String actionName;
+    // Lower-cased name with collapsed whitespaces, unique so the duplicate check is enforced by the database
+    @Indexed(unique = true, sparse = true)
+    private String normalizedName;
     private boolean isFavorite;
     @TextIndexed
     private String actionDescription;
     private String configurations;
     private ActionStatus actionStatus;
     private long createdAt;
+    private long updatedAt;
     
     // Soft delete fields
     private Long deletedAt;  // Timestamp in seconds when action was soft deleted
@@ -0,0 +1,26 @@
+package com.hoatv.action.manager.collections;
+
+import lombok.*;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document("action-statistics-snapshots")
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@FieldNameConstants
+@AllArgsConstructor
+public class ActionStatisticsSnapshotDocument {
+
+    @Id
+    private String actionId;
+    private long numberOfJobs;
+    private long numberOfFailureJobs;
+    private long numberOfSuccessJobs;
+    private long numberOfScheduleJobs;
+    private long numberOfPendingJobs;
+    private long checkpointedAt;  // Timestamp in milliseconds, changes after it are replayed on startup
+}
@@ -0,0 +1,28 @@
+package com.hoatv.action.manager.collections;
+
+import lombok.*;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Job content and content templates shared by the jobs with the same script, identified by the hash of its value
+ */
+@Document("job-contents")
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@FieldNameConstants
+@AllArgsConstructor
+public class JobContentDocument {
+
+    @Id
+    private String hash;
+    private String jobContent;
+    private String contentTemplates;
+    private long createdAt;
+    // Number of jobs referencing the content, the content is removed when it drops to zero
+    private long referenceCount;
+}
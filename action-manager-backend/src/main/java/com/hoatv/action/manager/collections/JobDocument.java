@@ -5,12 +5,27 @@ import com.hoatv.action.manager.dtos.JobCategory;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.List;
 import java.util.UUID;
 
 @Document("jobs")
+@CompoundIndexes({
+        // findJobByActionId, findJobSummaryByActionId, findJobsByActionId, deleteByActionId and the job name search inside an action
+        @CompoundIndex(name = "jobs-action-id-job-name", def = "{'actionId': 1, 'jobName': 1}"),
+        // findByIsScheduled{True|False}AndJobStatusAndActionId(In)
+        @CompoundIndex(name = "jobs-scheduled-status-action-id", def = "{'isScheduled': 1, 'jobStatus': 1, 'actionId': 1}"),
+        // Job overview pages sorted by the newest jobs, the id completes the key of the cursor pages
+        @CompoundIndex(name = "jobs-created-at-id", def = "{'createdAt': -1, '_id': -1}"),
+        // Cursor pages of the jobs of an action
+        @CompoundIndex(name = "jobs-action-id-created-at-id", def = "{'actionId': 1, 'createdAt': -1, '_id': -1}"),
+        // Jobs left with an inline content by the content migration
+        @CompoundIndex(name = "jobs-content-hash", def = "{'contentHash': 1}")
+})
 @Getter
 @Setter
 @Builder
@@ -25,8 +40,12 @@ public class JobDocument implements ImmutableJob {
     private String hash = UUID.randomUUID().toString();
 
     private JobCategory jobCategory;
+    // Stored once per distinct value in the job contents, see JobContentCallback
+    @Transient
     private String jobContent;
+    @Transient
     private String contentTemplates;
+    private String contentHash;
     private String jobDescription;
     private String configurations;
     private String jobName;
@@ -3,11 +3,23 @@ package com.hoatv.action.manager.collections;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.UUID;
 
 @Document("jobs-result-statistics")
+@CompoundIndexes({
+        // findByJobId, findByJobIdIn
+        @CompoundIndex(name = "jobs-result-job-id", def = "{'jobId': 1}"),
+        // deleteByActionId and the per action status aggregations
+        @CompoundIndex(name = "jobs-result-action-id-status", def = "{'actionId': 1, 'jobExecutionStatus': 1}"),
+        // Status filters and counts
+        @CompoundIndex(name = "jobs-result-status-updated-at", def = "{'jobExecutionStatus': 1, 'updatedAt': -1}"),
+        // Status filtered job overviews, newest results first
+        @CompoundIndex(name = "jobs-result-status-created-at", def = "{'jobExecutionStatus': 1, 'createdAt': -1, '_id': -1}")
+})
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,32 @@
+package com.hoatv.action.manager.collections;
+
+import lombok.*;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+import java.util.UUID;
+
+@Document("job-runs")
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@FieldNameConstants
+@AllArgsConstructor
+public class JobRunDocument {
+
+    @Id
+    @Builder.Default
+    private String hash = UUID.randomUUID().toString();
+    private String jobId;
+    private String actionId;
+    private JobExecutionStatus jobExecutionStatus;
+    private String failureNotes;
+    private long startedAt;
+    private long endedAt;
+    private long elapsedTime;
+    private Date recordedAt;  // Date type is required by the TTL index which expires the run
+}
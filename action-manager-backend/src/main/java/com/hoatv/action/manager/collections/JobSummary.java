@@ -0,0 +1,15 @@
+package com.hoatv.action.manager.collections;
+
+import org.springframework.data.annotation.Id;
+
+/**
+ * Read-only projection of a job document for the overview, lifecycle and scheduling paths, the job content,
+ * content templates and configurations are never fetched
+ */
+public record JobSummary(@Id String hash,
+                         String jobName,
+                         String actionId,
+                         JobStatus jobStatus,
+                         boolean isScheduled,
+                         long createdAt) {
+}
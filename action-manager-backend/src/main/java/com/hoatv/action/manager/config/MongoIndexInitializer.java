@@ -0,0 +1,156 @@
+package com.hoatv.action.manager.config;
+
+import com.hoatv.action.manager.collections.ActionDocument;
+import com.hoatv.action.manager.collections.JobDocument;
+import com.hoatv.action.manager.collections.JobResultDocument;
+import com.hoatv.action.manager.document.transformers.ActionTransformer;
+import com.hoatv.action.manager.services.JobContentStore;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Create the indexes declared on the hot collections at startup, whether or not
+ * spring.data.mongodb.auto-index-creation is enabled, then backfill the indexed fields derived from existing data.
+ * The job contents are moved out of the existing jobs once the application is ready, without delaying startup.
+ */
+@Component
+public class MongoIndexInitializer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(ActionDocument.class, JobDocument.class,
+            JobResultDocument.class);
+
+    private static final int NAME_SUFFIX_LENGTH = 8;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MongoMappingContext mongoMappingContext;
+
+    private final JobContentStore jobContentStore;
+
+    @Autowired
+    public MongoIndexInitializer(MongoTemplate mongoTemplate, MongoMappingContext mongoMappingContext,
+                                 JobContentStore jobContentStore) {
+        this.mongoTemplate = mongoTemplate;
+        this.mongoMappingContext = mongoMappingContext;
+        this.jobContentStore = jobContentStore;
+    }
+
+    @PostConstruct
+    public void ensureIndexes() {
+        IndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+        for (Class<?> documentClass : INDEXED_DOCUMENTS) {
+            IndexOperations indexOperations = mongoTemplate.indexOps(documentClass);
+            indexResolver.resolveIndexFor(documentClass).forEach(indexOperations::ensureIndex);
+            LOGGER.info("Ensured indexes of {}", mongoTemplate.getCollectionName(documentClass));
+        }
+        backfillActionNormalizedNames();
+    }
+
+    /**
+     * The jobs not migrated yet are read with their inline content, so the migration runs in the background
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateJobContents() {
+        Thread.ofPlatform().name("job-content-migration").daemon(true).start(() -> {
+            try {
+                jobContentStore.migrateInlineContents();
+            } catch (Exception exception) {
+                LOGGER.error("An exception occurred while moving the job contents, the migration resumes on next startup",
+                        exception);
+            }
+        });
+    }
+
+    /**
+     * Set the normalized name of the actions created before it was stored. The oldest action keeps the plain
+     * normalized name, the actions whose names only differ by case from another action get the prefix of their
+     * hash appended, so every action gets a unique normalized name and the backfill runs only once
+     */
+    public void backfillActionNormalizedNames() {
+        Query query = Query.query(Criteria.where(ActionDocument.Fields.normalizedName).exists(false))
+                .with(Sort.by(ActionDocument.Fields.createdAt, ActionDocument.Fields.hash));
+        query.fields().include(ActionDocument.Fields.hash, ActionDocument.Fields.actionName);
+        List<ActionDocument> actionDocuments = mongoTemplate.find(query, ActionDocument.class);
+        if (actionDocuments.isEmpty()) {
+            return;
+        }
+        // The plain and the suffixed names may already be used by the actions having a normalized name
+        List<String> candidateNames = actionDocuments.stream()
+                .filter(actionDocument -> Objects.nonNull(actionDocument.getActionName()))
+                .flatMap(actionDocument -> {
+                    String normalizedName = ActionTransformer.normalizeActionName(actionDocument.getActionName());
+                    return Stream.of(normalizedName, getSuffixedName(normalizedName, actionDocument.getHash()));
+                })
+                .distinct()
+                .toList();
+        Set<String> takenNames = new HashSet<>(mongoTemplate.findDistinct(
+                Query.query(Criteria.where(ActionDocument.Fields.normalizedName).in(candidateNames)),
+                ActionDocument.Fields.normalizedName, ActionDocument.class, String.class));
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ActionDocument.class);
+        List<String> renamedNames = new ArrayList<>();
+        actionDocuments.forEach(actionDocument -> {
+            String normalizedName = getUniqueNormalizedName(actionDocument, takenNames);
+            takenNames.add(normalizedName);
+            if (!normalizedName.equals(ActionTransformer.normalizeActionName(actionDocument.getActionName()))) {
+                renamedNames.add(normalizedName);
+            }
+            bulkOperations.updateOne(
+                    Query.query(Criteria.where(ActionDocument.Fields.hash).is(actionDocument.getHash())),
+                    Update.update(ActionDocument.Fields.normalizedName, normalizedName));
+        });
+        try {
+            bulkOperations.execute();
+            LOGGER.info("Backfilled the normalized name of {} actions", actionDocuments.size());
+        } catch (BulkOperationException bulkOperationException) {
+            // Another instance backfilled the same actions concurrently, the remaining ones are done on next startup
+            LOGGER.warn("Cannot backfill the normalized name of {} actions: {}",
+                    bulkOperationException.getErrors().size(), bulkOperationException.getErrors());
+        }
+        if (!renamedNames.isEmpty()) {
+            LOGGER.warn("Actions with duplicate names got a suffixed normalized name, they should be renamed: {}", renamedNames);
+        }
+    }
+
+    private static String getUniqueNormalizedName(ActionDocument actionDocument, Set<String> takenNames) {
+        String normalizedName = ActionTransformer.normalizeActionName(actionDocument.getActionName());
+        String hash = actionDocument.getHash();
+        if (Objects.isNull(normalizedName)) {
+            return hash;
+        }
+        if (!takenNames.contains(normalizedName)) {
+            return normalizedName;
+        }
+        String suffixedName = getSuffixedName(normalizedName, hash);
+        return takenNames.contains(suffixedName) ? normalizedName + "-" + hash : suffixedName;
+    }
+
+    private static String getSuffixedName(String normalizedName, String hash) {
+        return normalizedName + "-" + hash.substring(0, Math.min(NAME_SUFFIX_LENGTH, hash.length()));
+    }
+}
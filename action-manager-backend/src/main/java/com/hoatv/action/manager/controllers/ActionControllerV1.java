@@ -7,6 +7,8 @@ import com.hoatv.action.manager.collections.ActionDocument;
 import com.hoatv.action.manager.collections.ActionStatus;
 import com.hoatv.action.manager.dtos.ActionDefinitionDTO;
 import com.hoatv.action.manager.dtos.ActionOverviewDTO;
+import com.hoatv.action.manager.dtos.ActionSearchMode;
+import com.hoatv.action.manager.dtos.CursorPageResponseDTO;
 import com.hoatv.action.manager.dtos.JobDefinitionDTO;
 import com.hoatv.action.manager.dtos.JobOverviewDTO;
 import com.hoatv.action.manager.dtos.PageResponseDTO;
@@ -15,6 +17,7 @@ import com.hoatv.action.manager.dtos.RestoreResponse;
 import com.hoatv.action.manager.dtos.SoftDeleteResponse;
 import com.hoatv.fwk.common.exceptions.EntityNotFoundException;
 import com.hoatv.fwk.common.ultilities.Pair;
+import com.hoatv.springboot.common.validation.ValueOfEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -81,37 +84,36 @@ public class ActionControllerV1 {
                 ActionDocument.Fields.isFavorite), Sort.Order.desc(ActionDocument.Fields.createdAt)
         );
         
-        List<ActionStatus> statuses;
-        if (status != null && !status.isEmpty()) {
-            // Filter by specific status
-            try {
-                statuses = List.of(ActionStatus.valueOf(status.toUpperCase()));
-            } catch (IllegalArgumentException e) {
-                // If invalid status, return 400 Bad Request with a clear message
-                return ResponseEntity.badRequest().body(
-                        Map.of(
-                                "error", "Invalid status value: " + status,
-                                "allowedStatuses", List.of(
-                                        ActionStatus.INITIAL,
-                                        ActionStatus.PAUSED,
-                                        ActionStatus.ACTIVE,
-                                        ActionStatus.DELETED,
-                                        ActionStatus.ARCHIVED
-                                )
-                        )
-                );
-            }
-        } else {
-            // Return all statuses
-            statuses = List.of(
-                ActionStatus.INITIAL, ActionStatus.PAUSED, ActionStatus.ACTIVE, ActionStatus.DELETED, ActionStatus.ARCHIVED);
+        Optional<List<ActionStatus>> statuses = getActionStatuses(status);
+        if (statuses.isEmpty()) {
+            return getInvalidStatusResponse(status);
         }
         
         Page<ActionOverviewDTO> actionResults =
-                actionManagerService.getActions(statuses, PageRequest.of(pageIndex, pageSize, defaultSorting));
+                actionManagerService.getActions(statuses.get(), PageRequest.of(pageIndex, pageSize, defaultSorting));
         return ResponseEntity.ok(new PageResponseDTO<>(actionResults));
     }
 
+    /**
+     * Keyset paginated variant of the action listing, used when no page index is given
+     */
+    @GetMapping(params = "!pageIndex", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ACTION_VIEWER', 'ACTION_MANAGER', 'ADMIN')")
+    public ResponseEntity<Object> getActionsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("pageSize") @Min(1) int pageSize,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "includeTotal", required = false, defaultValue = "false") boolean includeTotal) {
+
+        Optional<List<ActionStatus>> statuses = getActionStatuses(status);
+        if (statuses.isEmpty()) {
+            return getInvalidStatusResponse(status);
+        }
+        CursorPageResponseDTO<ActionOverviewDTO> actionResults =
+                actionManagerService.getActions(statuses.get(), cursor, pageSize, includeTotal);
+        return ResponseEntity.ok(actionResults);
+    }
+
     @GetMapping(value = "/trash", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Object> getActionInTrash(
             @RequestParam("pageIndex") @Min(0) int pageIndex,
@@ -188,14 +190,21 @@ public class ActionControllerV1 {
             @Parameter(description = "Zero-based page index")
             @RequestParam("pageIndex") @Min(0) int pageIndex,
             @Parameter(description = "Page size")
-            @RequestParam("pageSize") @Min(0) int pageSize) {
+            @RequestParam("pageSize") @Min(0) int pageSize,
+            @Parameter(description = "TEXT to search whole words ordered by relevance, REGEX (default) to match any substring. "
+                    + "When no whole word matches, TEXT matches the search as the start of the action name, ignoring case; "
+                    + "a word in the middle of a name is not matched")
+            @RequestParam(value = "mode", required = false)
+            @ValueOfEnum(ActionSearchMode.class) String mode) {
 
         Sort defaultSorting = Sort.by(
                 Sort.Order.desc(ActionDocument.Fields.isFavorite), 
                 Sort.Order.desc(ActionDocument.Fields.createdAt)
         );
-        Page<ActionOverviewDTO> actionResults =
-                actionManagerService.search(search, PageRequest.of(pageIndex, pageSize, defaultSorting));
+        PageRequest pageRequest = PageRequest.of(pageIndex, pageSize, defaultSorting);
+        Page<ActionOverviewDTO> actionResults = mode == null
+                ? actionManagerService.search(search, pageRequest)
+                : actionManagerService.search(search, ActionSearchMode.valueOf(mode.toUpperCase()), pageRequest);
         return ResponseEntity.ok(new PageResponseDTO<>(actionResults));
     }
 
@@ -212,6 +221,22 @@ public class ActionControllerV1 {
         return ResponseEntity.ok(new PageResponseDTO<>(actionResults));
     }
 
+    /**
+     * Keyset paginated variant of the jobs of an action, used when no page index is given
+     */
+    @GetMapping(value = "/{actionId}/jobs", params = "!pageIndex", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Object> getJobsFromActionByCursor(@PathVariable("actionId") String actionId,
+                                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                                            @RequestParam("pageSize") @Min(1) int pageSize,
+                                                            @RequestParam(value = "searchText", required = false, defaultValue = "") String searchText,
+                                                            @RequestParam(value = "includeTotal", required = false, defaultValue = "false") boolean includeTotal) {
+
+        String actualSearchText = searchText.isEmpty() ? null : searchText;
+        CursorPageResponseDTO<JobOverviewDTO> jobResults =
+                jobManagerService.getJobsFromAction(actionId, cursor, pageSize, actualSearchText, includeTotal);
+        return ResponseEntity.ok(jobResults);
+    }
+
     @PreAuthorize("hasAnyRole('ACTION_MANAGER', 'ADMIN')")
     @PutMapping(path = "/{actionId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Object> update(@PathVariable("actionId") String actionId, @RequestBody ActionDefinitionDTO actionDefinitionDTO) {
@@ -267,4 +292,35 @@ public class ActionControllerV1 {
         String actionName = actionManagerService.importAction((MultipartFile) multipartFile);
         return ResponseEntity.ok(Map.of("name", actionName));
     }
+
+    /**
+     * @return the given status, all statuses when none is given or empty when the status is invalid
+     */
+    private static Optional<List<ActionStatus>> getActionStatuses(String status) {
+        if (status == null || status.isEmpty()) {
+            return Optional.of(List.of(
+                ActionStatus.INITIAL, ActionStatus.PAUSED, ActionStatus.ACTIVE, ActionStatus.DELETED, ActionStatus.ARCHIVED));
+        }
+        try {
+            return Optional.of(List.of(ActionStatus.valueOf(status.toUpperCase())));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static ResponseEntity<Object> getInvalidStatusResponse(String status) {
+        // If invalid status, return 400 Bad Request with a clear message
+        return ResponseEntity.badRequest().body(
+                Map.of(
+                        "error", "Invalid status value: " + status,
+                        "allowedStatuses", List.of(
+                                ActionStatus.INITIAL,
+                                ActionStatus.PAUSED,
+                                ActionStatus.ACTIVE,
+                                ActionStatus.DELETED,
+                                ActionStatus.ARCHIVED
+                        )
+                )
+        );
+    }
 }
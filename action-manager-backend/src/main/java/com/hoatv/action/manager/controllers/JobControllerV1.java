@@ -5,10 +5,13 @@ import com.hoatv.action.manager.api.ActionManagerService;
 import com.hoatv.action.manager.api.JobManagerService;
 import com.hoatv.action.manager.collections.JobDocument;
 import com.hoatv.action.manager.collections.JobExecutionStatus;
+import com.hoatv.action.manager.collections.JobRunDocument;
 import com.hoatv.action.manager.dtos.ActionDefinitionDTO;
+import com.hoatv.action.manager.dtos.CursorPageResponseDTO;
 import com.hoatv.action.manager.dtos.JobDefinitionDTO;
 import com.hoatv.action.manager.dtos.JobDetailDTO;
 import com.hoatv.action.manager.dtos.JobOverviewDTO;
+import com.hoatv.action.manager.dtos.JobRunDTO;
 import com.hoatv.action.manager.dtos.PageResponseDTO;
 import com.hoatv.springboot.common.validation.ValueOfEnum;
 import jakarta.validation.Valid;
@@ -55,6 +58,25 @@ public class JobControllerV1 {
         return ResponseEntity.ok(new PageResponseDTO<>(actionResults));
     }
 
+    /**
+     * Keyset paginated variant of the job listing, used when no page index is given
+     */
+    @GetMapping(params = "!pageIndex", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ACTION_VIEWER', 'ACTION_MANAGER', 'ADMIN')")
+    public ResponseEntity<Object> getJobsByCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                                  @RequestParam("pageSize") @Min(1) int pageSize,
+                                                  @RequestParam(value = "status", required = false)
+                                                  @ValueOfEnum(JobExecutionStatus.class) String status,
+                                                  @RequestParam(value = "includeTotal", required = false, defaultValue = "false") boolean includeTotal) {
+        JobExecutionStatus statusFilter = status != null
+            ? JobExecutionStatus.valueOf(status.toUpperCase())
+            : null;
+
+        CursorPageResponseDTO<JobOverviewDTO> jobResults =
+                jobManagerService.getOverviewJobs(cursor, pageSize, statusFilter, includeTotal);
+        return ResponseEntity.ok(jobResults);
+    }
+
     @PutMapping(path = "/{jobId}", consumes = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("hasAnyRole('ACTION_MANAGER', 'ADMIN')")
     public ResponseEntity<Object> updateJob(@PathVariable("jobId") String hash,
@@ -70,6 +92,17 @@ public class JobControllerV1 {
         return ResponseEntity.ok(jobDetailDTO);
     }
 
+    @GetMapping(path = "/{jobId}/runs", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ACTION_VIEWER', 'ACTION_MANAGER', 'ADMIN')")
+    public ResponseEntity<Object> getJobRuns(@PathVariable("jobId") String jobId,
+                                             @RequestParam("pageIndex") @Min(0) int pageIndex,
+                                             @RequestParam("pageSize") @Min(0) int pageSize) {
+        Sort defaultSorting = Sort.by(Sort.Order.desc(JobRunDocument.Fields.startedAt));
+        PageRequest pageRequest = PageRequest.of(pageIndex, pageSize, defaultSorting);
+        Page<JobRunDTO> jobRuns = jobManagerService.getJobRuns(jobId, pageRequest);
+        return ResponseEntity.ok(new PageResponseDTO<>(jobRuns));
+    }
+
     @PostMapping(path = "/validations", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Object> validate(@RequestBody @Valid JobDefinitionDTO jobDefinitionDTO,
                                          @RequestParam("actionId") String actionId) {
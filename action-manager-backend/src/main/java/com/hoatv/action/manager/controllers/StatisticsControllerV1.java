@@ -1,11 +1,15 @@
 package com.hoatv.action.manager.controllers;
 
+import com.hoatv.action.manager.dtos.LatencyStatisticsDTO;
+import com.hoatv.action.manager.dtos.StatisticsSummaryDTO;
 import com.hoatv.action.manager.services.ActionManagerStatistics;
+import com.hoatv.action.manager.services.JobLatencyStatistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,9 +22,13 @@ public class StatisticsControllerV1 {
 
     private final ActionManagerStatistics actionManagerStatistics;
 
+    private final JobLatencyStatistics jobLatencyStatistics;
+
     @Autowired
-    public StatisticsControllerV1(ActionManagerStatistics actionManagerStatistics) {
+    public StatisticsControllerV1(ActionManagerStatistics actionManagerStatistics,
+                                  JobLatencyStatistics jobLatencyStatistics) {
         this.actionManagerStatistics = actionManagerStatistics;
+        this.jobLatencyStatistics = jobLatencyStatistics;
     }
 
     @GetMapping(value = "/failures", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -32,6 +40,33 @@ public class StatisticsControllerV1 {
         return ResponseEntity.ok(responseBody);
     }
 
+    @GetMapping(value = "/summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ACTION_VIEWER', 'ACTION_MANAGER', 'ADMIN')")
+    public ResponseEntity<StatisticsSummaryDTO> getStatisticsSummary() {
+        StatisticsSummaryDTO responseBody = StatisticsSummaryDTO.builder()
+                .numberOfActions(actionManagerStatistics.getNumberOfActions())
+                .totalJobs(actionManagerStatistics.getTotalJobs())
+                .totalSuccessJobs(actionManagerStatistics.getTotalSuccessJobs())
+                .totalFailedJobs(actionManagerStatistics.getTotalFailedJobs())
+                .totalPendingJobs(actionManagerStatistics.getTotalPendingJobs())
+                .totalScheduleJobs(actionManagerStatistics.getTotalScheduleJobs())
+                .timestamp(Instant.now())
+                .build();
+        return ResponseEntity.ok(responseBody);
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/latency", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ACTION_VIEWER', 'ACTION_MANAGER', 'ADMIN')")
+    public ResponseEntity<LatencyStatisticsDTO> getJobLatency(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(jobLatencyStatistics.getJobLatency(jobId));
+    }
+
+    @GetMapping(value = "/actions/{actionId}/latency", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ACTION_VIEWER', 'ACTION_MANAGER', 'ADMIN')")
+    public ResponseEntity<LatencyStatisticsDTO> getActionLatency(@PathVariable("actionId") String actionId) {
+        return ResponseEntity.ok(jobLatencyStatistics.getActionLatency(actionId));
+    }
+
     public static class FailureStatisticsDTO {
 
         private long totalFailedJobs;
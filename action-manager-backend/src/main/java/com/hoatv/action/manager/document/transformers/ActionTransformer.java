@@ -4,12 +4,16 @@ import com.hoatv.action.manager.collections.ActionDocument;
 import com.hoatv.action.manager.collections.ActionStatus;
 import com.hoatv.action.manager.dtos.ActionDefinitionDTO;
 import com.hoatv.fwk.common.ultilities.DateTimeUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Locale;
 
 public final class ActionTransformer {
     private ActionTransformer() {}
     public static ActionDocument fromActionDefinition(ActionDefinitionDTO actionDefinitionDTO) {
         return ActionDocument.builder()
                 .actionName(actionDefinitionDTO.getActionName())
+                .normalizedName(normalizeActionName(actionDefinitionDTO.getActionName()))
                 .actionDescription(actionDefinitionDTO.getActionDescription())
                 .configurations(actionDefinitionDTO.getConfigurations())
                 .actionStatus(ActionStatus.valueOf(actionDefinitionDTO.getActionStatus()))
@@ -31,4 +35,14 @@ public final class ActionTransformer {
                 .createdAt(actionDocument.getCreatedAt())
                 .build();
     }
+
+    /**
+     * Action names are unique regardless of case and of leading, trailing or repeated whitespaces
+     */
+    public static String normalizeActionName(String actionName) {
+        if (actionName == null) {
+            return null;
+        }
+        return StringUtils.normalizeSpace(actionName).toLowerCase(Locale.ROOT);
+    }
 }
@@ -2,17 +2,22 @@ package com.hoatv.action.manager.document.transformers;
 
 import com.hoatv.action.manager.collections.JobDocument;
 import com.hoatv.action.manager.collections.JobResultDocument;
+import com.hoatv.action.manager.collections.JobRunDocument;
+import com.hoatv.action.manager.collections.JobSummary;
 import com.hoatv.action.manager.dtos.JobDefinitionDTO;
 import com.hoatv.action.manager.dtos.JobDetailDTO;
 import com.hoatv.action.manager.dtos.JobOverviewDTO;
+import com.hoatv.action.manager.dtos.JobRunDTO;
 import com.hoatv.fwk.common.ultilities.DateTimeUtils;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.function.Supplier;
 
 public final class JobTransformer {
     private JobTransformer() {
@@ -92,38 +97,60 @@ public final class JobTransformer {
                 .build();
     }
 
+    public static JobRunDTO toJobRunDTO(JobRunDocument jobRunDocument) {
+        String jobStatus = Objects.isNull(jobRunDocument.getJobExecutionStatus()) ? "" : jobRunDocument.getJobExecutionStatus().name();
+        return JobRunDTO.builder()
+                .hash(jobRunDocument.getHash())
+                .jobExecutionStatus(jobStatus)
+                .failureNotes(jobRunDocument.getFailureNotes())
+                .startedAt(jobRunDocument.getStartedAt())
+                .endedAt(jobRunDocument.getEndedAt())
+                .elapsedTime(jobRunDocument.getElapsedTime())
+                .build();
+    }
+
     public static Page<JobOverviewDTO> getJobOverviewDTOs(
-            Page<JobDocument> jobDocuments,
+            Page<JobSummary> jobDocuments,
             List<JobResultDocument> jobResultDocuments) {
-        
-        return jobDocuments.map(jobDocument -> {
-            String jobId = jobDocument.getHash();
-            Optional<JobResultDocument> jobExecutionResultDocument =
-                    jobResultDocuments.stream().filter(p -> p.getJobId().equals(jobId)).findFirst();
-            if (jobExecutionResultDocument.isEmpty()) {
-                return null;
-            }
-            Supplier<JobResultDocument> defaultJobResult = () -> JobResultDocument.builder().build();
-            JobResultDocument jobStat = jobExecutionResultDocument.orElseGet(defaultJobResult);
-            String jobState = Objects.isNull(jobStat.getJobState()) ? "" : jobStat.getJobState().name();
-            String jobStatus = Objects.isNull(jobStat.getJobExecutionStatus()) ? "" : jobStat.getJobExecutionStatus().name();
-            long elapsedTimeAsLong = jobStat.getElapsedTime();
-            String elapsedTimeString = DurationFormatUtils.formatDuration(elapsedTimeAsLong, "HH:mm:ss.S");
-            String elapsedTime = elapsedTimeAsLong == 0 ? "" : elapsedTimeString;
-            return JobOverviewDTO.builder()
-                    .name(jobDocument.getJobName())
-                    .hash(jobId)
-                    .jobState(jobState)
-                    .jobExecutionStatus(jobStatus)
-                    .status(jobDocument.getJobStatus().name())
-                    .jobExecutionStatus(jobStat.getJobExecutionStatus().name())
-                    .isSchedule(jobDocument.isScheduled())
-                    .startedAt(jobStat.getStartedAt())
-                    .updatedAt(jobStat.getUpdatedAt())
-                    .elapsedTime(elapsedTime)
-                    .failureNotes(jobStat.getFailureNotes())
-                    .actionHash(jobDocument.getActionId())
+
+        Map<String, JobResultDocument> jobResultsByJobId = HashMap.newHashMap(jobResultDocuments.size());
+        for (JobResultDocument jobResultDocument : jobResultDocuments) {
+            jobResultsByJobId.put(jobResultDocument.getJobId(), jobResultDocument);
+        }
+
+        List<JobOverviewDTO> jobOverviewDTOs = new ArrayList<>(jobDocuments.getNumberOfElements());
+        for (JobSummary jobDocument : jobDocuments) {
+            // A job without result yet is shown without execution details instead of a null row
+            jobOverviewDTOs.add(toJobOverviewDTO(jobDocument, jobResultsByJobId.get(jobDocument.hash())));
+        }
+        return new PageImpl<>(jobOverviewDTOs, jobDocuments.getPageable(), jobDocuments.getTotalElements());
+    }
+
+    private static JobOverviewDTO toJobOverviewDTO(JobSummary jobDocument, JobResultDocument jobStat) {
+        JobOverviewDTO.JobOverviewDTOBuilder jobOverviewBuilder = JobOverviewDTO.builder()
+                .name(jobDocument.jobName())
+                .hash(jobDocument.hash())
+                .status(jobDocument.jobStatus().name())
+                .isSchedule(jobDocument.isScheduled())
+                .actionHash(jobDocument.actionId());
+        if (Objects.isNull(jobStat)) {
+            return jobOverviewBuilder
+                    .jobState("")
+                    .jobExecutionStatus("")
+                    .elapsedTime("")
                     .build();
-        });
+        }
+        String jobState = Objects.isNull(jobStat.getJobState()) ? "" : jobStat.getJobState().name();
+        String jobStatus = Objects.isNull(jobStat.getJobExecutionStatus()) ? "" : jobStat.getJobExecutionStatus().name();
+        long elapsedTimeAsLong = jobStat.getElapsedTime();
+        String elapsedTime = elapsedTimeAsLong == 0 ? "" : DurationFormatUtils.formatDuration(elapsedTimeAsLong, "HH:mm:ss.S");
+        return jobOverviewBuilder
+                .jobState(jobState)
+                .jobExecutionStatus(jobStatus)
+                .startedAt(jobStat.getStartedAt())
+                .updatedAt(jobStat.getUpdatedAt())
+                .elapsedTime(elapsedTime)
+                .failureNotes(jobStat.getFailureNotes())
+                .build();
     }
 }
@@ -0,0 +1,6 @@
+package com.hoatv.action.manager.dtos;
+
+public enum ActionSearchMode {
+    REGEX,
+    TEXT
+}
@@ -0,0 +1,30 @@
+package com.hoatv.action.manager.dtos;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Getter;
+
+/**
+ * Page of a keyset paginated listing, the next page is requested with the returned cursor. The total is only
+ * counted when it is asked for.
+ */
+@Getter
+@JsonInclude(value = JsonInclude.Include.NON_NULL)
+public class CursorPageResponseDTO<T> {
+    private List<T> content;
+    private int     size;
+    private String  nextCursor;
+    private boolean hasNext;
+    private Long    totalElements;
+
+    public CursorPageResponseDTO (List<T> content, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = content.size();
+        this.nextCursor = nextCursor;
+        this.hasNext = Objects.nonNull(nextCursor);
+        this.totalElements = totalElements;
+    }
+}
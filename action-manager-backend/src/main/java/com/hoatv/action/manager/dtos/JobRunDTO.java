@@ -0,0 +1,33 @@
+package com.hoatv.action.manager.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(value = JsonInclude.Include.NON_NULL)
+public class JobRunDTO {
+
+    @JsonProperty("hash")
+    private String hash;
+
+    @JsonProperty("executionStatus")
+    private String jobExecutionStatus;
+
+    @JsonProperty("failureNotes")
+    private String failureNotes;
+
+    @JsonProperty("startedAt")
+    private long startedAt;
+
+    @JsonProperty("endedAt")
+    private long endedAt;
+
+    @JsonProperty("elapsedTime")
+    private long elapsedTime;
+}
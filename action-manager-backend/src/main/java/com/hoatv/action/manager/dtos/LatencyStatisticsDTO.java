@@ -0,0 +1,28 @@
+package com.hoatv.action.manager.dtos;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyStatisticsDTO {
+
+    @JsonProperty("count")
+    private long count;
+
+    @JsonProperty("p50")
+    private long p50;
+
+    @JsonProperty("p95")
+    private long p95;
+
+    @JsonProperty("p99")
+    private long p99;
+
+    @JsonProperty("max")
+    private long max;
+}
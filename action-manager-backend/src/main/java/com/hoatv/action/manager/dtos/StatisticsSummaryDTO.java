@@ -0,0 +1,36 @@
+package com.hoatv.action.manager.dtos;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.time.Instant;
+
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsSummaryDTO {
+
+    @JsonProperty("numberOfActions")
+    private long numberOfActions;
+
+    @JsonProperty("totalJobs")
+    private long totalJobs;
+
+    @JsonProperty("totalSuccessJobs")
+    private long totalSuccessJobs;
+
+    @JsonProperty("totalFailedJobs")
+    private long totalFailedJobs;
+
+    @JsonProperty("totalPendingJobs")
+    private long totalPendingJobs;
+
+    @JsonProperty("totalScheduleJobs")
+    private long totalScheduleJobs;
+
+    @JsonProperty("timestamp")
+    private Instant timestamp;
+}
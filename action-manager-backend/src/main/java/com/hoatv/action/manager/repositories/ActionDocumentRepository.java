@@ -15,8 +15,7 @@ import java.util.Set;
 @Repository
 public interface ActionDocumentRepository extends MongoRepository<ActionDocument, String> {
 
-    @Query("{actionName: {$regex : ?0, $options: 'i'}}")
-    List<ActionDocument> findActionByName(String actionName);
+    boolean existsByNormalizedName(String normalizedName);
 
     @Query("{actionName: {$regex : ?0, $options: 'i'}}")
     Page<ActionDocument> findActionByName(String actionName, Pageable pageable);
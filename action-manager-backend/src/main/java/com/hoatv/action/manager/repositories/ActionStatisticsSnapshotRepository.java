@@ -0,0 +1,11 @@
+package com.hoatv.action.manager.repositories;
+
+import com.hoatv.action.manager.collections.ActionStatisticsSnapshotDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ActionStatisticsSnapshotRepository extends MongoRepository<ActionStatisticsSnapshotDocument, String> {
+
+    void deleteByCheckpointedAtLessThan(long checkpointedAt);
+}
@@ -2,6 +2,7 @@ package com.hoatv.action.manager.repositories;
 
 import com.hoatv.action.manager.collections.JobDocument;
 import com.hoatv.action.manager.collections.JobStatus;
+import com.hoatv.action.manager.collections.JobSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -15,13 +16,14 @@ public interface JobDocumentRepository extends MongoRepository<JobDocument, Stri
 
     void deleteByActionId(String actionId);
     List<JobDocument> findJobByActionId(String actionId);
-    List<JobDocument> findByIsScheduledTrueAndJobStatusAndActionIdIn(JobStatus status, Collection<String> actionIds);
-    List<JobDocument> findByIsScheduledTrueAndJobStatusAndActionId(JobStatus status, String actionId);
-    List<JobDocument> findByIsScheduledFalseAndJobStatusAndActionId(JobStatus status, String actionId);
-    Page<JobDocument> findJobByActionId(String actionId, Pageable pageable);
-    Page<JobDocument> findJobByActionIdAndJobNameContainingIgnoreCase(String actionId, String searchText, Pageable pageable);
+    List<JobSummary> findJobSummaryByActionId(String actionId);
+    List<JobSummary> findByIsScheduledTrueAndJobStatusAndActionIdIn(JobStatus status, Collection<String> actionIds);
+    List<JobSummary> findByIsScheduledTrueAndJobStatusAndActionId(JobStatus status, String actionId);
+    List<JobSummary> findByIsScheduledFalseAndJobStatusAndActionId(JobStatus status, String actionId);
+    Page<JobSummary> findAllBy(Pageable pageable);
+    Page<JobSummary> findJobByActionId(String actionId, Pageable pageable);
+    Page<JobSummary> findJobByActionIdAndJobNameContainingIgnoreCase(String actionId, String searchText, Pageable pageable);
     List<JobIdImmutable> findJobsByActionId(String actionId);
-    Page<JobDocument> findByHashIn(List<String> hashes, Pageable pageable);
 
     interface JobIdImmutable {
         String getHash();
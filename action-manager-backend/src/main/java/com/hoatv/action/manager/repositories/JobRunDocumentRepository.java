@@ -0,0 +1,17 @@
+package com.hoatv.action.manager.repositories;
+
+import com.hoatv.action.manager.collections.JobRunDocument;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobRunDocumentRepository extends MongoRepository<JobRunDocument, String> {
+
+    Page<JobRunDocument> findByJobId(String jobId, Pageable pageable);
+
+    void deleteByJobId(String jobId);
+
+    void deleteByActionId(String actionId);
+}
@@ -9,27 +9,41 @@ import com.hoatv.action.manager.document.transformers.ActionTransformer;
 import com.hoatv.action.manager.document.transformers.JobTransformer;
 import com.hoatv.action.manager.dtos.ActionDefinitionDTO;
 import com.hoatv.action.manager.dtos.ActionOverviewDTO;
+import com.hoatv.action.manager.dtos.ActionSearchMode;
+import com.hoatv.action.manager.dtos.CursorPageResponseDTO;
 import com.hoatv.action.manager.dtos.JobDefinitionDTO;
 import com.hoatv.action.manager.dtos.RestoreResponse;
 import com.hoatv.fwk.common.exceptions.EntityNotFoundException;
 import com.hoatv.action.manager.repositories.ActionDocumentRepository;
 import com.hoatv.action.manager.repositories.JobDocumentRepository;
-import com.hoatv.action.manager.repositories.JobExecutionResultDocumentRepository;
 import com.hoatv.action.manager.services.ActionManagerStatistics.ActionStatistics;
+import com.hoatv.action.manager.utils.KeysetCursor;
 import com.hoatv.fwk.common.exceptions.InvalidArgumentException;
 import com.hoatv.fwk.common.services.BiCheckedConsumer;
 import com.hoatv.fwk.common.services.CheckedFunction;
+import com.hoatv.fwk.common.ultilities.DateTimeUtils;
 import com.hoatv.fwk.common.ultilities.ObjectUtils;
 import com.hoatv.fwk.common.ultilities.Pair;
 import com.hoatv.fwk.common.ultilities.ZipFileUtils;
 import com.hoatv.monitor.mgmt.LoggingMonitor;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.ServletOutputStream;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -37,15 +51,13 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.Map.Entry;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 import java.util.zip.ZipInputStream;
 
-import static com.hoatv.action.manager.utils.ActionManagerConstants.JOB_STATUS_COUNTER_PROCESSOR;
 import static com.hoatv.action.manager.utils.JobManagerConstants.VALID_JOB_STATUS_TO_RUN;
 
 @Service
@@ -59,66 +71,46 @@ public class ActionManagerServiceImpl implements ActionManagerService {
 
     public static final String ACTION_NOT_FOUND_MESSAGE = "Cannot find action ID: ";
 
+    // Favorite actions first then the newest ones, the hash breaks the ties of actions created within the same second
+    private static final Sort ACTION_KEYSET_SORT = Sort.by(Sort.Order.desc(ActionDocument.Fields.isFavorite),
+            Sort.Order.desc(ActionDocument.Fields.createdAt), Sort.Order.desc(ActionDocument.Fields.hash));
+
+    private static final Pattern REGEX_META_CHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+
     private final ActionDocumentRepository actionDocumentRepository;
 
     private final JobDocumentRepository jobDocumentRepository;
 
-    private final JobExecutionResultDocumentRepository jobResultDocumentRepository;
-
     private final JobManagerService jobManagerService;
 
     private final ActionManagerStatistics actionManagerStatistics;
 
+    private final ActionStatisticsSnapshotService actionStatisticsSnapshotService;
+
+    private final MongoTemplate mongoTemplate;
+
     @Autowired
     public ActionManagerServiceImpl(
             ActionDocumentRepository actionDocumentRepository,
             JobManagerService jobManagerService,
             ActionManagerStatistics actionManagerStatistics,
             JobDocumentRepository jobDocumentRepository,
-            JobExecutionResultDocumentRepository jobExecutionResultDocumentRepository
+            ActionStatisticsSnapshotService actionStatisticsSnapshotService,
+            MongoTemplate mongoTemplate
     ) {
         this.actionDocumentRepository = actionDocumentRepository;
         this.jobManagerService = jobManagerService;
         this.actionManagerStatistics = actionManagerStatistics;
         this.jobDocumentRepository = jobDocumentRepository;
-        this.jobResultDocumentRepository = jobExecutionResultDocumentRepository;
+        this.actionStatisticsSnapshotService = actionStatisticsSnapshotService;
+        this.mongoTemplate = mongoTemplate;
     }
 
 
     @PostConstruct
     public void initialize() {
         LOGGER.info("Calculating action statistics at startup time");
-        List<JobDocument> jobDocuments = jobDocumentRepository.findAll();
-        Map<String, List<JobDocument>> actionJobMapping = jobDocuments.stream()
-                .collect(Collectors.groupingBy(JobDocument::getActionId));
-
-        Set<String> actionIds = jobDocuments.stream().map(JobDocument::getActionId)
-                .collect(Collectors.toSet());
-        actionManagerStatistics.initActionStatistics(actionIds);
-
-        List<String> allJobIds = jobDocuments.stream().map(JobDocument::getHash).toList();
-        List<JobResultDocument> jobResultDocuments = jobResultDocumentRepository.findByJobIdIn(allJobIds);
-
-        actionJobMapping.forEach((actionId, relatedJobs) -> {
-            long noScheduleJobs = relatedJobs.stream().filter(JobDocument::isScheduled).count();
-            List<String> currentActionJobs = relatedJobs.stream().map(JobDocument::getHash).toList();
-            Predicate<JobResultDocument> filterJobInActionPredicate = p -> currentActionJobs.contains(p.getJobId());
-            List<JobResultDocument> currentJobResults = jobResultDocuments.stream()
-                    .filter(filterJobInActionPredicate)
-                    .toList();
-
-            Map<JobExecutionStatus, Long> jobStatusCounter = currentJobResults.stream()
-                    .collect(Collectors.groupingBy(JobResultDocument::getJobExecutionStatus, Collectors.counting()));
-
-            ActionStatistics actionStatistics = ActionStatistics.builder()
-                    .numberOfJobs(new AtomicLong(relatedJobs.size()))
-                    .numberOfFailureJobs(new AtomicLong(jobStatusCounter.getOrDefault(JobExecutionStatus.FAILURE, 0L)))
-                    .numberOfSuccessJobs(new AtomicLong(jobStatusCounter.getOrDefault(JobExecutionStatus.SUCCESS, 0L)))
-                    .numberOfPendingJobs(new AtomicLong(jobStatusCounter.getOrDefault(JobExecutionStatus.PENDING, 0L)))
-                    .numberOfScheduleJobs(new AtomicLong(noScheduleJobs))
-                    .build();
-            actionManagerStatistics.initActionStatistics(actionId, actionStatistics);
-        });
+        actionStatisticsSnapshotService.restoreActionStatistics();
     }
 
     @PostConstruct
@@ -148,7 +140,15 @@ public class ActionManagerServiceImpl implements ActionManagerService {
     @Override
     @LoggingMonitor(description = "Search actions with {argument0}")
     public Page<ActionOverviewDTO> search(String search, Pageable pageable) {
-        Page<ActionDocument> actionDocuments = actionDocumentRepository.searchByNameOrDescription(search, pageable);
+        return search(search, ActionSearchMode.REGEX, pageable);
+    }
+
+    @Override
+    @LoggingMonitor(description = "Search actions with {argument0} in {argument1} mode")
+    public Page<ActionOverviewDTO> search(String search, ActionSearchMode searchMode, Pageable pageable) {
+        Page<ActionDocument> actionDocuments = searchMode == ActionSearchMode.TEXT && StringUtils.isNotBlank(search)
+                ? searchByText(search.trim(), pageable)
+                : actionDocumentRepository.searchByNameOrDescription(search, pageable);
         return getActionOverviewDTOs(actionDocuments);
     }
 
@@ -160,6 +160,32 @@ public class ActionManagerServiceImpl implements ActionManagerService {
         return getActionOverviewDTOs(actionDocuments);
     }
 
+    @Override
+    @LoggingMonitor(description = "Get action by statuses: {argument0} after cursor: {argument1}")
+    public CursorPageResponseDTO<ActionOverviewDTO> getActions(List<ActionStatus> filterStatuses, String cursor,
+                                                               int pageSize, boolean includeTotal) {
+        Query query = Query.query(Criteria.where(ActionDocument.Fields.actionStatus).in(filterStatuses));
+        Long total = includeTotal ? mongoTemplate.count(query, ActionDocument.class) : null;
+        if (Objects.nonNull(cursor)) {
+            query.addCriteria(KeysetCursor.after(ACTION_KEYSET_SORT, KeysetCursor.decode(cursor, 3)));
+        }
+        // One more action than the page size is read to know whether a next page exists without counting
+        query.with(ACTION_KEYSET_SORT).limit(pageSize + 1);
+        List<ActionDocument> actionDocuments = mongoTemplate.find(query, ActionDocument.class);
+        boolean hasNext = actionDocuments.size() > pageSize;
+        List<ActionDocument> pageActionDocuments = hasNext ? actionDocuments.subList(0, pageSize) : actionDocuments;
+        String nextCursor = null;
+        if (hasNext) {
+            ActionDocument lastActionDocument = pageActionDocuments.getLast();
+            nextCursor = KeysetCursor.encode(List.of(lastActionDocument.isFavorite(),
+                    lastActionDocument.getCreatedAt(), lastActionDocument.getHash()));
+        }
+        List<ActionOverviewDTO> actionOverviewDTOs = pageActionDocuments.stream()
+                .map(this::toActionOverviewDTO)
+                .toList();
+        return new CursorPageResponseDTO<>(actionOverviewDTOs, nextCursor, total);
+    }
+
     @Override
     @LoggingMonitor(description = "Get action by id {argument0}")
     public Optional<ActionDefinitionDTO> getActionById(String hash) {
@@ -171,12 +197,10 @@ public class ActionManagerServiceImpl implements ActionManagerService {
     @Transactional
     @LoggingMonitor(description = "Set favorite value: {argument1} for action {argument0}")
     public ActionDefinitionDTO setFavorite(String hash, boolean isFavorite) {
-        Optional<ActionDocument> actionDocumentOptional = actionDocumentRepository.findById(hash);
-        ActionDocument actionDocument = actionDocumentOptional
-                .orElseThrow(() -> new EntityNotFoundException(ACTION_NOT_FOUND_MESSAGE + hash));
-
-        actionDocument.setFavorite(isFavorite);
-        ActionDocument document = actionDocumentRepository.save(actionDocument);
+        Update update = Update.update(ActionDocument.Fields.isFavorite, isFavorite);
+        ActionDocument document = mongoTemplate.findAndModify(getActionQuery(hash), update,
+                FindAndModifyOptions.options().returnNew(true), ActionDocument.class);
+        ObjectUtils.checkThenThrow(Objects.isNull(document), () -> new EntityNotFoundException(ACTION_NOT_FOUND_MESSAGE + hash));
         return ActionTransformer.toActionDefinition(document);
     }
 
@@ -193,6 +217,15 @@ public class ActionManagerServiceImpl implements ActionManagerService {
     @LoggingMonitor(description = "Process action: {argument0.getActionName()}")
     public String create(ActionDefinitionDTO actionDefinition) {
         ActionDocument actionDocument = createActionDocument(actionDefinition);
+
+        // Statistics must exist before the first job of the action completes
+        List<JobDefinitionDTO> relatedJobs = actionDefinition.getJobs();
+        long numberOfScheduleJobs = relatedJobs.stream().filter(JobDefinitionDTO::isScheduled).count();
+        String actionDocumentHash = actionDocument.getHash();
+        actionManagerStatistics.initActionStatistics(Set.of(actionDocumentHash));
+        actionManagerStatistics.increaseNumberOfScheduleJob(actionDocumentHash, numberOfScheduleJobs);
+        actionManagerStatistics.increaseNumberOfJobs(actionDocumentHash, relatedJobs.size());
+
         ActionExecutionContext actionExecutionContext = getActionExecutionContextForCreate(
                 actionDefinition, actionDocument);
 
@@ -206,13 +239,6 @@ public class ActionManagerServiceImpl implements ActionManagerService {
                     actionDocument.getActionStatus(),
                     VALID_ACTION_STATUS_TO_RUN);
         }
-
-        List<JobDefinitionDTO> relatedJobs = actionDefinition.getJobs();
-        long numberOfScheduleJobs = relatedJobs.stream().filter(JobDefinitionDTO::isScheduled).count();
-        String actionDocumentHash = actionDocument.getHash();
-        actionManagerStatistics.initActionStatistics(Set.of(actionDocumentHash));
-        actionManagerStatistics.increaseNumberOfScheduleJob(actionDocumentHash, numberOfScheduleJobs);
-        actionManagerStatistics.increaseNumberOfJobs(actionDocumentHash, relatedJobs.size());
         return actionDefinition.getActionName();
     }
 
@@ -225,6 +251,7 @@ public class ActionManagerServiceImpl implements ActionManagerService {
                 .orElseThrow(() -> new EntityNotFoundException(ACTION_NOT_FOUND_MESSAGE + actionId));
         actionDocument.setConfigurations(actionDefinitionDTO.getConfigurations());
         actionDocument.setActionStatus(ActionStatus.valueOf(actionDefinitionDTO.getActionStatus()));
+        actionDocument.setUpdatedAt(DateTimeUtils.getCurrentEpochTimeInMillisecond());
         actionDocumentRepository.save(actionDocument);
     }
 
@@ -233,10 +260,15 @@ public class ActionManagerServiceImpl implements ActionManagerService {
     @LoggingMonitor(description = "Create {argument0.getActionName()} action from action definition")
     public ActionDocument createActionDocument(ActionDefinitionDTO actionDefinition) {
         String actionName = actionDefinition.getActionName();
-        List<ActionDocument> persistedActions = actionDocumentRepository.findActionByName(actionName);
+        String normalizedName = ActionTransformer.normalizeActionName(actionName);
         Supplier<InvalidArgumentException> exceptionSupplier = () -> new InvalidArgumentException("Action " + actionName + " already exists");
-        ObjectUtils.checkThenThrow(!persistedActions.isEmpty(), exceptionSupplier);
-        return actionDocumentRepository.save(ActionTransformer.fromActionDefinition(actionDefinition));
+        ObjectUtils.checkThenThrow(actionDocumentRepository.existsByNormalizedName(normalizedName), exceptionSupplier);
+        try {
+            return actionDocumentRepository.save(ActionTransformer.fromActionDefinition(actionDefinition));
+        } catch (DuplicateKeyException duplicateKeyException) {
+            // The same name was created concurrently after the check
+            throw exceptionSupplier.get();
+        }
     }
 
     @Override
@@ -318,14 +350,16 @@ public class ActionManagerServiceImpl implements ActionManagerService {
         action.setDeletedAt(System.currentTimeMillis() / 1000);
         
         // Pause all jobs
-        List<JobDocument> jobs = jobDocumentRepository.findJobByActionId(actionId);
-        jobs.forEach(job -> job.setJobStatus(JobStatus.PAUSED));
-        jobDocumentRepository.saveAll(jobs);
+        List<JobDocumentRepository.JobIdImmutable> jobs = jobDocumentRepository.findJobsByActionId(actionId);
+        updateJobStatusByActionId(actionId, JobStatus.PAUSED);
         jobs.stream()
-            .map(JobDocument::getHash)
+            .map(JobDocumentRepository.JobIdImmutable::getHash)
             .forEach(jobManagerService::pause);
         
-        actionDocumentRepository.save(action);
+        updateAction(actionId, new Update()
+                .set(ActionDocument.Fields.previousStatus, action.getPreviousStatus())
+                .set(ActionDocument.Fields.actionStatus, action.getActionStatus())
+                .set(ActionDocument.Fields.deletedAt, action.getDeletedAt()));
     }
 
     @Override
@@ -352,16 +386,17 @@ public class ActionManagerServiceImpl implements ActionManagerService {
     @LoggingMonitor(description = "Archive action by id: {argument0}")
     public void archive(String actionId) {
         ActionDocument actionDocument = findActionDocument(actionId);
-        List<JobDocument> jobDocuments = jobDocumentRepository.findJobByActionId(actionId);
-        jobDocuments.forEach(jobDocument -> jobDocument.setJobStatus(JobStatus.ARCHIVED));
-        jobDocumentRepository.saveAll(jobDocuments);
+        List<JobDocumentRepository.JobIdImmutable> jobIds = jobDocumentRepository.findJobsByActionId(actionId);
+        updateJobStatusByActionId(actionId, JobStatus.ARCHIVED);
 
-        jobDocuments.stream().map(JobDocument::getHash).forEach(jobManagerService::pause);
+        jobIds.stream().map(JobDocumentRepository.JobIdImmutable::getHash).forEach(jobManagerService::pause);
 
         // Store previous status for restoration (similar to soft delete)
         actionDocument.setPreviousStatus(actionDocument.getActionStatus());
         actionDocument.setActionStatus(ActionStatus.ARCHIVED);
-        actionDocumentRepository.save(actionDocument);
+        updateAction(actionId, new Update()
+                .set(ActionDocument.Fields.previousStatus, actionDocument.getPreviousStatus())
+                .set(ActionDocument.Fields.actionStatus, actionDocument.getActionStatus()));
     }
 
     @Override
@@ -369,14 +404,13 @@ public class ActionManagerServiceImpl implements ActionManagerService {
     @LoggingMonitor(description = "Pause action by id: {argument0}")
     public void pause(String actionId) {
         ActionDocument actionDocument = findActionDocument(actionId);
-        List<JobDocument> jobDocuments = jobDocumentRepository.findJobByActionId(actionId);
-        jobDocuments.forEach(jobDocument -> jobDocument.setJobStatus(JobStatus.PAUSED));
-        jobDocumentRepository.saveAll(jobDocuments);
+        List<JobDocumentRepository.JobIdImmutable> jobIds = jobDocumentRepository.findJobsByActionId(actionId);
+        updateJobStatusByActionId(actionId, JobStatus.PAUSED);
 
-        jobDocuments.stream().map(JobDocument::getHash).forEach(jobManagerService::pause);
+        jobIds.stream().map(JobDocumentRepository.JobIdImmutable::getHash).forEach(jobManagerService::pause);
 
         actionDocument.setActionStatus(ActionStatus.PAUSED);
-        actionDocumentRepository.save(actionDocument);
+        updateAction(actionId, Update.update(ActionDocument.Fields.actionStatus, ActionStatus.PAUSED));
     }
 
     @Override
@@ -389,7 +423,7 @@ public class ActionManagerServiceImpl implements ActionManagerService {
         immutableJobIds.stream().map(JobDocumentRepository.JobIdImmutable::getHash).forEach(this::resume);
 
         actionDocument.setActionStatus(ActionStatus.ACTIVE);
-        actionDocumentRepository.save(actionDocument);
+        updateAction(actionId, Update.update(ActionDocument.Fields.actionStatus, ActionStatus.ACTIVE));
     }
 
     @Override
@@ -417,17 +451,16 @@ public class ActionManagerServiceImpl implements ActionManagerService {
         
         // Resume scheduled jobs if returning to ACTIVE
         if (newStatus == ActionStatus.ACTIVE) {
-            List<JobDocument> jobs = jobDocumentRepository.findJobByActionId(actionId);
+            List<JobSummary> jobs = jobDocumentRepository.findJobSummaryByActionId(actionId);
             jobs.stream()
-                .filter(JobDocument::isScheduled)
-                .forEach(job -> {
-                    job.setJobStatus(JobStatus.ACTIVE);
-                    resume(job.getHash());  // Use this.resume() instead of jobManagerService
-                });
-            jobDocumentRepository.saveAll(jobs);
+                .filter(JobSummary::isScheduled)
+                .forEach(job -> resume(job.hash()));  // Use this.resume() instead of jobManagerService
         }
         
-        actionDocumentRepository.save(action);
+        updateAction(actionId, new Update()
+                .set(ActionDocument.Fields.actionStatus, newStatus)
+                .unset(ActionDocument.Fields.deletedAt)
+                .unset(ActionDocument.Fields.previousStatus));
         
         return RestoreResponse.builder()
             .actionId(actionId)
@@ -447,8 +480,10 @@ public class ActionManagerServiceImpl implements ActionManagerService {
             return;
         }
         jobDocument.setJobStatus(JobStatus.ACTIVE);
-        jobDocumentRepository.save(jobDocument);
-        JobResultDocument jobResultDocument = jobResultDocumentRepository.findByJobId(jobHash);
+        mongoTemplate.updateFirst(Query.query(Criteria.where(JobDocument.Fields.hash).is(jobHash)),
+                Update.update(JobDocument.Fields.jobStatus, JobStatus.ACTIVE), JobDocument.class);
+        // The latest state of the job result may still be waiting in the write-behind buffer
+        JobResultDocument jobResultDocument = jobManagerService.getJobResultDocument(jobHash);
         Optional<ActionDocument> actionDocumentOptional = actionDocumentRepository.findById(jobDocument.getActionId());
         ImmutableAction actionDocument = actionDocumentOptional.orElseThrow();
         jobManagerService.processJob(jobDocument, 
@@ -502,6 +537,40 @@ public class ActionManagerServiceImpl implements ActionManagerService {
         };
     }
 
+    /**
+     * Search the whole words on the text index ordered by relevance, when no word matches the search is
+     * treated as the prefix of an action name, e.g. while the name is still being typed. The mode is decided
+     * from the whole search, not from the requested page, so every page of a search uses the same query. The
+     * prefix is matched on the lower-cased normalized name from its start only, so it stays a bounded scan of
+     * the unique index
+     */
+    private Page<ActionDocument> searchByText(String search, Pageable pageable) {
+        TextCriteria textCriteria = TextCriteria.forDefaultLanguage().matchingAny(search.split("\\s+"));
+        Query searchQuery = TextQuery.queryText(textCriteria).sortByScore();
+        if (!mongoTemplate.exists(searchQuery, ActionDocument.class)) {
+            String normalizedSearch = ActionTransformer.normalizeActionName(search);
+            searchQuery = Query.query(Criteria.where(ActionDocument.Fields.normalizedName)
+                    .regex("^" + REGEX_META_CHARACTERS.matcher(normalizedSearch).replaceAll("\\\\$0")));
+        }
+        Query countQuery = searchQuery;
+        List<ActionDocument> actionDocuments = mongoTemplate.find(Query.of(searchQuery).with(pageable), ActionDocument.class);
+        return PageableExecutionUtils.getPage(actionDocuments, pageable,
+                () -> mongoTemplate.count(countQuery, ActionDocument.class));
+    }
+
+    private static Query getActionQuery(String actionId) {
+        return Query.query(Criteria.where(ActionDocument.Fields.hash).is(actionId));
+    }
+
+    private void updateAction(String actionId, Update update) {
+        mongoTemplate.updateFirst(getActionQuery(actionId), update, ActionDocument.class);
+    }
+
+    private void updateJobStatusByActionId(String actionId, JobStatus jobStatus) {
+        mongoTemplate.updateMulti(Query.query(Criteria.where(JobDocument.Fields.actionId).is(actionId)),
+                Update.update(JobDocument.Fields.jobStatus, jobStatus), JobDocument.class);
+    }
+
     private ActionDocument findActionDocument(String actionId) {
         Optional<ActionDocument> actionDocumentOptional = actionDocumentRepository.findById(actionId);
         return actionDocumentOptional
@@ -527,28 +596,30 @@ public class ActionManagerServiceImpl implements ActionManagerService {
     }
 
     private Page<ActionOverviewDTO> getActionOverviewDTOs(Page<ActionDocument> actionDocuments) {
-        return actionDocuments.map(actionDocument -> {
-            String actionId = actionDocument.getHash();
-            ActionStatistics actionStatistics = actionManagerStatistics.getActionStats(actionId);
-            long numberOfJobs = actionStatistics.getNumberOfJobs().get();
-            long numberOfFailureJobs = actionStatistics.getNumberOfFailureJobs().get();
-            long numberOfSuccessJobs = actionStatistics.getNumberOfSuccessJobs().get();
-            long numberOfScheduleJobs = actionStatistics.getNumberOfScheduleJobs().get();
-            long numberOfPendingJobs = actionStatistics.getNumberOfPendingJobs().get();
-
-            return ActionOverviewDTO.builder()
-                    .name(actionDocument.getActionName())
-                    .hash(actionId)
-                    .actionStatus(actionDocument.getActionStatus().name())
-                    .numberOfScheduleJobs(numberOfScheduleJobs)
-                    .numberOfFailureJobs(numberOfFailureJobs)
-                    .numberOfSuccessJobs(numberOfSuccessJobs)
-                    .numberOfPendingJobs(numberOfPendingJobs)
-                    .numberOfJobs(numberOfJobs)
-                    .isFavorite(actionDocument.isFavorite())
-                    .createdAt(actionDocument.getCreatedAt())
-                    .build();
-        });
+        return actionDocuments.map(this::toActionOverviewDTO);
+    }
+
+    private ActionOverviewDTO toActionOverviewDTO(ActionDocument actionDocument) {
+        String actionId = actionDocument.getHash();
+        ActionStatistics actionStatistics = actionManagerStatistics.getActionStats(actionId);
+        long numberOfJobs = actionStatistics.getNumberOfJobs().sum();
+        long numberOfFailureJobs = actionStatistics.getNumberOfFailureJobs().sum();
+        long numberOfSuccessJobs = actionStatistics.getNumberOfSuccessJobs().sum();
+        long numberOfScheduleJobs = actionStatistics.getNumberOfScheduleJobs().sum();
+        long numberOfPendingJobs = actionStatistics.getNumberOfPendingJobs().sum();
+
+        return ActionOverviewDTO.builder()
+                .name(actionDocument.getActionName())
+                .hash(actionId)
+                .actionStatus(actionDocument.getActionStatus().name())
+                .numberOfScheduleJobs(numberOfScheduleJobs)
+                .numberOfFailureJobs(numberOfFailureJobs)
+                .numberOfSuccessJobs(numberOfSuccessJobs)
+                .numberOfPendingJobs(numberOfPendingJobs)
+                .numberOfJobs(numberOfJobs)
+                .isFavorite(actionDocument.isFavorite())
+                .createdAt(actionDocument.getCreatedAt())
+                .build();
     }
 
     private ActionExecutionContext getActionExecutionContextForNewJobs(String actionId,
@@ -571,9 +642,7 @@ public class ActionManagerServiceImpl implements ActionManagerService {
 
     private Map<String, String> getJobDocumentPairs(List<JobDefinitionDTO> jobDefinitionDTOs,
                                                     ActionDocument actionDocument) {
-        return jobDefinitionDTOs.stream()
-                .map(p -> jobManagerService.initialJobs(p, actionDocument.getHash()))
-                .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+        return jobManagerService.initialJobs(jobDefinitionDTOs, actionDocument.getHash());
     }
 
 
@@ -627,19 +696,8 @@ public class ActionManagerServiceImpl implements ActionManagerService {
 
     private BiCheckedConsumer<JobExecutionStatus, JobExecutionStatus> onCompletedJobCallback(String actionId) {
         return (prevJobStatus, currentJobStatus) -> {
-            LOGGER.info("Prev status: {} -> Next status: {}", prevJobStatus, currentJobStatus);
-            Optional<BiCheckedConsumer<ActionManagerStatistics, String>> jobStatusProcessorOptional = JOB_STATUS_COUNTER_PROCESSOR
-                    .entrySet()
-                    .stream()
-                    .filter(p -> p.getKey().test(prevJobStatus, currentJobStatus))
-                    .map(Entry::getValue)
-                    .findFirst();
-
-            if (jobStatusProcessorOptional.isEmpty()) {
-                LOGGER.warn("Missing job status count processor for prev: {} - next: {} statuses", prevJobStatus, currentJobStatus);
-                return;
-            }
-            jobStatusProcessorOptional.get().accept(actionManagerStatistics, actionId);
+            LOGGER.debug("Prev status: {} -> Next status: {}", prevJobStatus, currentJobStatus);
+            actionManagerStatistics.applyJobStatusTransition(actionId, prevJobStatus, currentJobStatus);
         };
     }
 }
@@ -1,126 +1,228 @@
 package com.hoatv.action.manager.services;
 
+import com.hoatv.action.manager.collections.JobExecutionStatus;
 import com.hoatv.fwk.common.constants.MetricProviders;
 import com.hoatv.metric.mgmt.annotations.Metric;
 import com.hoatv.metric.mgmt.annotations.MetricProvider;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
+import static com.hoatv.action.manager.utils.ActionManagerConstants.*;
+
 
 @Component
 @MetricProvider(application = MetricProviders.OTHER_APPLICATION, category = "action-manager-stats-data")
 public class ActionManagerStatistics {
 
-    private final Map<String, ActionStatistics> actionStatisticsMapping = new HashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActionManagerStatistics.class);
+
+    private final Map<String, ActionStatistics> actionStatisticsMapping = new ConcurrentHashMap<>();
+
+    private final LongAdder numberOfUnhandledJobStatusTransitions = new LongAdder();
+
+    /**
+     * Running totals over all actions, they are updated together with the per-action counters
+     */
+    @Getter
+    private final ActionStatistics totalStatistics = ActionStatistics.builder().build();
 
     @Metric(name = "action-manager-number-of-actions")
     public long getNumberOfActions() {
-        return actionStatisticsMapping.keySet().size();
+        return actionStatisticsMapping.size();
     }
 
     public void initActionStatistics(Set<String> actionIds) {
-        actionIds.forEach(actionId -> {
-            ActionStatistics actionStatistics = ActionStatistics.builder()
-                    .numberOfJobs(new AtomicLong(0))
-                    .numberOfFailureJobs(new AtomicLong(0))
-                    .numberOfSuccessJobs(new AtomicLong(0))
-                    .numberOfScheduleJobs(new AtomicLong(0))
-                    .numberOfPendingJobs(new AtomicLong(0))
-                    .build();
-            actionStatisticsMapping.put(actionId, actionStatistics);
-        });
+        actionIds.forEach(actionId -> initActionStatistics(actionId, ActionStatistics.builder().build()));
     }
 
+    /**
+     * The counters are swapped under the lock of the action entry, which also guards every counter update.
+     * The final sums of the replaced counters are therefore the ones subtracted from the totals.
+     */
     public void initActionStatistics(String actionId, ActionStatistics actionStatistics) {
-        actionStatisticsMapping.put(actionId, actionStatistics);
+        actionStatisticsMapping.compute(actionId, (id, prevActionStatistics) -> {
+            if (Objects.nonNull(prevActionStatistics)) {
+                addToTotals(prevActionStatistics, -1);
+            }
+            addToTotals(actionStatistics, 1);
+            return actionStatistics;
+        });
     }
 
     public void removeActionStats(String actionId) {
-        actionStatisticsMapping.remove(actionId);
+        actionStatisticsMapping.computeIfPresent(actionId, (id, actionStatistics) -> {
+            addToTotals(actionStatistics, -1);
+            return null;
+        });
     }
 
     public ActionStatistics getActionStats(String actionId) {
         return actionStatisticsMapping.get(actionId);
     }
 
-    public void increaseNumberOfJobs(String actionId, long numberOfJobs) {
-        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics ->
-            actionStatistics.getNumberOfJobs().addAndGet(numberOfJobs);
-        processStats(actionId, actionStatsConsumer);
-    }
-
-    public void increaseNumberOfSuccessJob(String actionId) {
-        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics ->
-                actionStatistics.getNumberOfSuccessJobs().incrementAndGet();
-        processStats(actionId, actionStatsConsumer);
+    public Map<String, ActionStatistics> getActionStatisticsMapping() {
+        return new HashMap<>(actionStatisticsMapping);
     }
 
-    public void increaseNumberOfFailureJob(String actionId) {
-        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics ->
-                actionStatistics.getNumberOfFailureJobs().incrementAndGet();
+    public void increaseNumberOfJobs(String actionId, long numberOfJobs) {
+        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics -> {
+            actionStatistics.getNumberOfJobs().add(numberOfJobs);
+            totalStatistics.getNumberOfJobs().add(numberOfJobs);
+        };
         processStats(actionId, actionStatsConsumer);
     }
 
     public void increaseNumberOfPendingJob(String actionId, long delta) {
-        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics ->
-                actionStatistics.getNumberOfPendingJobs().addAndGet(delta);
+        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics -> {
+            actionStatistics.getNumberOfPendingJobs().add(delta);
+            totalStatistics.getNumberOfPendingJobs().add(delta);
+        };
         processStats(actionId, actionStatsConsumer);
     }
 
     public void increaseNumberOfScheduleJob(String actionId, long delta) {
-        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics ->
-                actionStatistics.getNumberOfScheduleJobs().addAndGet(delta);
+        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics -> {
+            actionStatistics.getNumberOfScheduleJobs().add(delta);
+            totalStatistics.getNumberOfScheduleJobs().add(delta);
+        };
         processStats(actionId, actionStatsConsumer);
     }
 
-    public void decreaseNumberOfFailureJob(String actionId) {
-        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics ->
-                actionStatistics.getNumberOfFailureJobs().decrementAndGet();
+    /**
+     * Remove the counters of a deleted job
+     */
+    public void decreaseNumberOfJobs(String actionId, boolean isScheduled, JobExecutionStatus jobExecutionStatus) {
+        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics -> {
+            actionStatistics.getNumberOfJobs().decrement();
+            totalStatistics.getNumberOfJobs().decrement();
+            if (isScheduled) {
+                actionStatistics.getNumberOfScheduleJobs().decrement();
+                totalStatistics.getNumberOfScheduleJobs().decrement();
+            }
+            if (Objects.isNull(jobExecutionStatus)) {
+                return;
+            }
+            switch (jobExecutionStatus) {
+                case SUCCESS -> {
+                    actionStatistics.getNumberOfSuccessJobs().decrement();
+                    totalStatistics.getNumberOfSuccessJobs().decrement();
+                }
+                case FAILURE -> {
+                    actionStatistics.getNumberOfFailureJobs().decrement();
+                    totalStatistics.getNumberOfFailureJobs().decrement();
+                }
+                case PENDING -> {
+                    actionStatistics.getNumberOfPendingJobs().decrement();
+                    totalStatistics.getNumberOfPendingJobs().decrement();
+                }
+                default -> LOGGER.debug("Job in {} status is not counted", jobExecutionStatus);
+            }
+        };
         processStats(actionId, actionStatsConsumer);
     }
 
-    public void decreaseNumberOfSuccessJob(String actionId) {
-        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics ->
-                actionStatistics.getNumberOfSuccessJobs().decrementAndGet();
+    public void applyJobStatusTransition(String actionId, JobExecutionStatus prevStatus, JobExecutionStatus nextStatus) {
+        long[] deltas = getJobStatusTransitionDeltas(prevStatus, nextStatus);
+        if (Objects.isNull(deltas)) {
+            numberOfUnhandledJobStatusTransitions.increment();
+            LOGGER.debug("Missing job status count processor for prev: {} - next: {} statuses", prevStatus, nextStatus);
+            return;
+        }
+        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics -> {
+            actionStatistics.getNumberOfSuccessJobs().add(deltas[SUCCESS_JOB_DELTA_INDEX]);
+            actionStatistics.getNumberOfFailureJobs().add(deltas[FAILURE_JOB_DELTA_INDEX]);
+            actionStatistics.getNumberOfPendingJobs().add(deltas[PENDING_JOB_DELTA_INDEX]);
+            totalStatistics.getNumberOfSuccessJobs().add(deltas[SUCCESS_JOB_DELTA_INDEX]);
+            totalStatistics.getNumberOfFailureJobs().add(deltas[FAILURE_JOB_DELTA_INDEX]);
+            totalStatistics.getNumberOfPendingJobs().add(deltas[PENDING_JOB_DELTA_INDEX]);
+        };
         processStats(actionId, actionStatsConsumer);
     }
 
-    public void decreaseNumberOfPendingJob(String actionId) {
-        Consumer<ActionStatistics> actionStatsConsumer = actionStatistics ->
-                actionStatistics.getNumberOfPendingJobs().decrementAndGet();
-        processStats(actionId, actionStatsConsumer);
+    private void addToTotals(ActionStatistics actionStatistics, long sign) {
+        totalStatistics.getNumberOfJobs().add(sign * actionStatistics.getNumberOfJobs().sum());
+        totalStatistics.getNumberOfFailureJobs().add(sign * actionStatistics.getNumberOfFailureJobs().sum());
+        totalStatistics.getNumberOfSuccessJobs().add(sign * actionStatistics.getNumberOfSuccessJobs().sum());
+        totalStatistics.getNumberOfScheduleJobs().add(sign * actionStatistics.getNumberOfScheduleJobs().sum());
+        totalStatistics.getNumberOfPendingJobs().add(sign * actionStatistics.getNumberOfPendingJobs().sum());
     }
 
+    /**
+     * The update runs under the lock of the action entry, it cannot interleave with the removal or the
+     * replacement of the action counters
+     */
     private void processStats(String actionId, Consumer<ActionStatistics> actionStatisticConsumer) {
-        ActionStatistics actionStatistics = actionStatisticsMapping.get(actionId);
-        actionStatisticConsumer.accept(actionStatistics);
+        ActionStatistics actionStatistics = actionStatisticsMapping.computeIfPresent(actionId, (id, currentActionStatistics) -> {
+            actionStatisticConsumer.accept(currentActionStatistics);
+            return currentActionStatistics;
+        });
+        if (Objects.isNull(actionStatistics)) {
+            // The action was removed while its jobs were still completing
+            LOGGER.debug("Skip updating statistics of removed action {}", actionId);
+        }
     }
 
 
+    @Metric(name = "action-manager-number-of-unhandled-job-status-transitions")
+    public long getNumberOfUnhandledJobStatusTransitions() {
+        return numberOfUnhandledJobStatusTransitions.sum();
+    }
+
     @Metric(name = "action-manager-total-failed-jobs")
     public long getTotalFailedJobs() {
-        return actionStatisticsMapping.values()
-                .stream()
-                .mapToLong(stats -> stats.getNumberOfFailureJobs().get())
-                .sum();
+        return totalStatistics.getNumberOfFailureJobs().sum();
+    }
+
+    @Metric(name = "action-manager-total-success-jobs")
+    public long getTotalSuccessJobs() {
+        return totalStatistics.getNumberOfSuccessJobs().sum();
+    }
+
+    @Metric(name = "action-manager-total-pending-jobs")
+    public long getTotalPendingJobs() {
+        return totalStatistics.getNumberOfPendingJobs().sum();
+    }
+
+    @Metric(name = "action-manager-total-schedule-jobs")
+    public long getTotalScheduleJobs() {
+        return totalStatistics.getNumberOfScheduleJobs().sum();
+    }
+
+    @Metric(name = "action-manager-total-jobs")
+    public long getTotalJobs() {
+        return totalStatistics.getNumberOfJobs().sum();
     }
 
-    @Builder
     @Getter
-    @Setter
     public static class ActionStatistics {
-        private AtomicLong numberOfJobs;
-        private AtomicLong numberOfFailureJobs;
-        private AtomicLong numberOfSuccessJobs;
-        private AtomicLong numberOfScheduleJobs;
-        private AtomicLong numberOfPendingJobs;
+        private final LongAdder numberOfJobs = new LongAdder();
+        private final LongAdder numberOfFailureJobs = new LongAdder();
+        private final LongAdder numberOfSuccessJobs = new LongAdder();
+        private final LongAdder numberOfScheduleJobs = new LongAdder();
+        private final LongAdder numberOfPendingJobs = new LongAdder();
+
+        @Builder
+        private ActionStatistics(long numberOfJobs,
+                                 long numberOfFailureJobs,
+                                 long numberOfSuccessJobs,
+                                 long numberOfScheduleJobs,
+                                 long numberOfPendingJobs) {
+            this.numberOfJobs.add(numberOfJobs);
+            this.numberOfFailureJobs.add(numberOfFailureJobs);
+            this.numberOfSuccessJobs.add(numberOfSuccessJobs);
+            this.numberOfScheduleJobs.add(numberOfScheduleJobs);
+            this.numberOfPendingJobs.add(numberOfPendingJobs);
+        }
     }
 }
@@ -0,0 +1,273 @@
+package com.hoatv.action.manager.services;
+
+import com.hoatv.action.manager.collections.ActionDocument;
+import com.hoatv.action.manager.collections.ActionStatisticsSnapshotDocument;
+import com.hoatv.action.manager.collections.JobDocument;
+import com.hoatv.action.manager.collections.JobExecutionStatus;
+import com.hoatv.action.manager.collections.JobResultDocument;
+import com.hoatv.action.manager.repositories.ActionStatisticsSnapshotRepository;
+import com.hoatv.action.manager.services.ActionManagerStatistics.ActionStatistics;
+import com.hoatv.fwk.common.ultilities.DateTimeUtils;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkpoint the action statistics periodically, on startup the latest snapshot is loaded and only the
+ * actions having jobs or job results changed after the checkpoint are counted again. Deleting a job marks its
+ * action as updated so it is counted again too.
+ * <p>
+ * The job result states waiting in the write-behind buffer are written before counting or checkpointing, a
+ * snapshot never counts a state the database does not have. A state changed after the checkpoint time marks
+ * its action as changed, so when the process stops before that state is written the action is counted again
+ * from the database on the next startup.
+ */
+@Service
+public class ActionStatisticsSnapshotService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActionStatisticsSnapshotService.class);
+
+    private static final String ID_FIELD = "_id";
+
+    private static final String NUMBER_OF_JOBS_FIELD = "numberOfJobs";
+
+    private static final String NUMBER_OF_SCHEDULE_JOBS_FIELD = "numberOfScheduleJobs";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ActionStatisticsSnapshotRepository actionStatisticsSnapshotRepository;
+
+    private final ActionManagerStatistics actionManagerStatistics;
+
+    private final JobResultWriteBehindBuffer jobResultWriteBehindBuffer;
+
+    private final boolean snapshotEnabled;
+
+    private final long checkpointIntervalInMs;
+
+    private ScheduledExecutorService checkpointExecutor;
+
+    @Autowired
+    public ActionStatisticsSnapshotService(
+            MongoTemplate mongoTemplate,
+            ActionStatisticsSnapshotRepository actionStatisticsSnapshotRepository,
+            ActionManagerStatistics actionManagerStatistics,
+            JobResultWriteBehindBuffer jobResultWriteBehindBuffer,
+            @Value("${action.manager.statistics.snapshot.enabled:true}") boolean snapshotEnabled,
+            @Value("${action.manager.statistics.snapshot.interval-ms:60000}") long checkpointIntervalInMs
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.actionStatisticsSnapshotRepository = actionStatisticsSnapshotRepository;
+        this.actionManagerStatistics = actionManagerStatistics;
+        this.jobResultWriteBehindBuffer = jobResultWriteBehindBuffer;
+        this.snapshotEnabled = snapshotEnabled;
+        this.checkpointIntervalInMs = checkpointIntervalInMs;
+    }
+
+    /**
+     * Fill the action statistics from the latest snapshot plus the changes after it, or from a full
+     * count when there is no snapshot, then start checkpointing
+     */
+    public void restoreActionStatistics() {
+        List<ActionStatisticsSnapshotDocument> snapshots = snapshotEnabled
+                ? actionStatisticsSnapshotRepository.findAll()
+                : List.of();
+        if (snapshots.isEmpty()) {
+            LOGGER.info("No action statistics snapshot, counting all actions");
+            Map<String, ActionStatistics> actionStatisticsMapping = calculateActionStatistics(new Criteria());
+            actionStatisticsMapping.forEach(actionManagerStatistics::initActionStatistics);
+            LOGGER.info("Calculated action statistics for {} actions", actionStatisticsMapping.size());
+        } else {
+            replayFromSnapshots(snapshots);
+        }
+        startCheckpointing();
+    }
+
+    public void checkpoint() {
+        long checkpointedAt = DateTimeUtils.getCurrentEpochTimeInMillisecond();
+        // The counters change before the job results are written, write them first so the snapshot is not ahead
+        jobResultWriteBehindBuffer.flush();
+        List<ActionStatisticsSnapshotDocument> snapshots = actionManagerStatistics.getActionStatisticsMapping()
+                .entrySet()
+                .stream()
+                .map(entry -> toSnapshot(entry.getKey(), entry.getValue(), checkpointedAt))
+                .toList();
+        if (!snapshots.isEmpty()) {
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                    ActionStatisticsSnapshotDocument.class);
+            snapshots.forEach(snapshot -> bulkOperations.replaceOne(
+                    Query.query(Criteria.where(ID_FIELD).is(snapshot.getActionId())),
+                    snapshot,
+                    FindAndReplaceOptions.options().upsert()));
+            bulkOperations.execute();
+        }
+        // Snapshots of the actions removed since the previous checkpoint
+        actionStatisticsSnapshotRepository.deleteByCheckpointedAtLessThan(checkpointedAt);
+        LOGGER.debug("Checkpointed statistics of {} actions at {}", snapshots.size(), checkpointedAt);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (Objects.isNull(checkpointExecutor)) {
+            return;
+        }
+        checkpointExecutor.shutdownNow();
+        try {
+            checkpoint();
+        } catch (Exception exception) {
+            LOGGER.warn("Cannot checkpoint action statistics on shutdown", exception);
+        }
+    }
+
+    private void startCheckpointing() {
+        if (!snapshotEnabled) {
+            return;
+        }
+        checkpointExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("action-statistics-checkpoint").daemon(true).factory());
+        checkpointExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint();
+            } catch (Exception exception) {
+                LOGGER.error("An exception occurred while checkpointing action statistics", exception);
+            }
+        }, checkpointIntervalInMs, checkpointIntervalInMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void replayFromSnapshots(List<ActionStatisticsSnapshotDocument> snapshots) {
+        long checkpointedAt = snapshots.stream()
+                .mapToLong(ActionStatisticsSnapshotDocument::getCheckpointedAt)
+                .min()
+                .orElse(0);
+        long checkpointedAtInSecond = TimeUnit.MILLISECONDS.toSeconds(checkpointedAt);
+
+        Criteria changedJobCriteria = new Criteria().orOperator(
+                Criteria.where(JobDocument.Fields.createdAt).gte(checkpointedAtInSecond),
+                Criteria.where(JobDocument.Fields.updatedAt).gte(checkpointedAt)
+        );
+        Criteria changedJobResultCriteria = new Criteria().orOperator(
+                Criteria.where(JobResultDocument.Fields.createdAt).gte(checkpointedAtInSecond),
+                Criteria.where(JobResultDocument.Fields.updatedAt).gte(checkpointedAt),
+                Criteria.where(JobResultDocument.Fields.endedAt).gte(checkpointedAt)
+        );
+        Set<String> changedActionIds = new HashSet<>(mongoTemplate.findDistinct(Query.query(changedJobCriteria),
+                JobDocument.Fields.actionId, JobDocument.class, String.class));
+        changedActionIds.addAll(mongoTemplate.findDistinct(Query.query(changedJobResultCriteria),
+                JobResultDocument.Fields.actionId, JobResultDocument.class, String.class));
+        List<String> updatedActionIds = mongoTemplate.findDistinct(
+                Query.query(Criteria.where(ActionDocument.Fields.updatedAt).gte(checkpointedAt)),
+                ActionDocument.Fields.hash, ActionDocument.class, String.class);
+        changedActionIds.addAll(updatedActionIds);
+
+        // Actions deleted after the checkpoint do not have any job left
+        Set<String> existingActionIds = new HashSet<>(mongoTemplate.findDistinct(new Query(),
+                JobDocument.Fields.actionId, JobDocument.class, String.class));
+        snapshots.stream()
+                .filter(snapshot -> existingActionIds.contains(snapshot.getActionId()))
+                .filter(snapshot -> !changedActionIds.contains(snapshot.getActionId()))
+                .forEach(snapshot -> actionManagerStatistics.initActionStatistics(snapshot.getActionId(), toActionStatistics(snapshot)));
+
+        if (!changedActionIds.isEmpty()) {
+            Map<String, ActionStatistics> changedActionStatistics =
+                    calculateActionStatistics(Criteria.where(JobDocument.Fields.actionId).in(changedActionIds));
+            changedActionStatistics.forEach(actionManagerStatistics::initActionStatistics);
+            // The updated actions may have no job left
+            updatedActionIds.stream()
+                    .filter(actionId -> !changedActionStatistics.containsKey(actionId))
+                    .forEach(actionId -> actionManagerStatistics.initActionStatistics(actionId, ActionStatistics.builder().build()));
+        }
+        LOGGER.info("Restored action statistics from {} snapshots checkpointed at {}, replayed {} changed actions",
+                snapshots.size(), checkpointedAt, changedActionIds.size());
+    }
+
+    private Map<String, ActionStatistics> calculateActionStatistics(Criteria actionCriteria) {
+        Map<String, ActionStatistics> actionStatisticsMapping = new HashMap<>();
+        jobResultWriteBehindBuffer.flush();
+
+        // Only the counters per action are loaded, jobs and job results are grouped on the server side
+        AggregationOperation matchOperation = Aggregation.match(actionCriteria);
+        Aggregation jobCounterAggregation = Aggregation.newAggregation(
+                matchOperation,
+                Aggregation.group(JobDocument.Fields.actionId)
+                        .count().as(NUMBER_OF_JOBS_FIELD)
+                        .sum(ConditionalOperators.when(Criteria.where(JobDocument.Fields.isScheduled).is(true))
+                                .then(1)
+                                .otherwise(0)).as(NUMBER_OF_SCHEDULE_JOBS_FIELD)
+        );
+        mongoTemplate.aggregate(jobCounterAggregation, JobDocument.class, Document.class).forEach(jobCounter -> {
+            ActionStatistics actionStatistics = ActionStatistics.builder()
+                    .numberOfJobs(getLongValue(jobCounter, NUMBER_OF_JOBS_FIELD))
+                    .numberOfScheduleJobs(getLongValue(jobCounter, NUMBER_OF_SCHEDULE_JOBS_FIELD))
+                    .build();
+            actionStatisticsMapping.put(jobCounter.getString(ID_FIELD), actionStatistics);
+        });
+
+        Aggregation jobResultCounterAggregation = Aggregation.newAggregation(
+                matchOperation,
+                Aggregation.group(JobResultDocument.Fields.actionId, JobResultDocument.Fields.jobExecutionStatus)
+                        .count().as(NUMBER_OF_JOBS_FIELD)
+        );
+        mongoTemplate.aggregate(jobResultCounterAggregation, JobResultDocument.class, Document.class).forEach(jobResultCounter -> {
+            Document counterKey = jobResultCounter.get(ID_FIELD, Document.class);
+            ActionStatistics actionStatistics = actionStatisticsMapping.get(counterKey.getString(JobResultDocument.Fields.actionId));
+            String jobExecutionStatus = counterKey.getString(JobResultDocument.Fields.jobExecutionStatus);
+            if (Objects.isNull(actionStatistics) || Objects.isNull(jobExecutionStatus)) {
+                return;
+            }
+            long numberOfJobs = getLongValue(jobResultCounter, NUMBER_OF_JOBS_FIELD);
+            switch (JobExecutionStatus.valueOf(jobExecutionStatus)) {
+                case FAILURE -> actionStatistics.getNumberOfFailureJobs().add(numberOfJobs);
+                case SUCCESS -> actionStatistics.getNumberOfSuccessJobs().add(numberOfJobs);
+                case PENDING -> actionStatistics.getNumberOfPendingJobs().add(numberOfJobs);
+                default -> LOGGER.debug("Skip counting {} jobs in {} status", numberOfJobs, jobExecutionStatus);
+            }
+        });
+        return actionStatisticsMapping;
+    }
+
+    private static long getLongValue(Document document, String fieldName) {
+        Number value = document.get(fieldName, Number.class);
+        return Objects.isNull(value) ? 0 : value.longValue();
+    }
+
+    private static ActionStatisticsSnapshotDocument toSnapshot(String actionId,
+                                                               ActionStatistics actionStatistics,
+                                                               long checkpointedAt) {
+        return ActionStatisticsSnapshotDocument.builder()
+                .actionId(actionId)
+                .numberOfJobs(actionStatistics.getNumberOfJobs().sum())
+                .numberOfFailureJobs(actionStatistics.getNumberOfFailureJobs().sum())
+                .numberOfSuccessJobs(actionStatistics.getNumberOfSuccessJobs().sum())
+                .numberOfScheduleJobs(actionStatistics.getNumberOfScheduleJobs().sum())
+                .numberOfPendingJobs(actionStatistics.getNumberOfPendingJobs().sum())
+                .checkpointedAt(checkpointedAt)
+                .build();
+    }
+
+    private static ActionStatistics toActionStatistics(ActionStatisticsSnapshotDocument snapshot) {
+        return ActionStatistics.builder()
+                .numberOfJobs(snapshot.getNumberOfJobs())
+                .numberOfFailureJobs(snapshot.getNumberOfFailureJobs())
+                .numberOfSuccessJobs(snapshot.getNumberOfSuccessJobs())
+                .numberOfScheduleJobs(snapshot.getNumberOfScheduleJobs())
+                .numberOfPendingJobs(snapshot.getNumberOfPendingJobs())
+                .build();
+    }
+}
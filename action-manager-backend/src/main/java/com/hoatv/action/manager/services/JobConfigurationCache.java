@@ -0,0 +1,98 @@
+package com.hoatv.action.manager.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoatv.action.manager.api.ImmutableAction;
+import com.hoatv.action.manager.api.ImmutableJob;
+import com.hoatv.fwk.common.services.CheckedSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hold the merged action and job configurations keyed by the configuration JSON, the JSON is only parsed
+ * again when it changes. Every caller gets its own copy of the merged configurations, as when they were
+ * parsed on each run.
+ */
+@Component
+public class JobConfigurationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobConfigurationCache.class);
+
+    public static final int MAX_CACHED_CONFIGURATIONS = 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<ConfigurationKey, Map<String, Object>> mergedConfigurations = Collections.synchronizedMap(
+            new LinkedHashMap<>(MAX_CACHED_CONFIGURATIONS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ConfigurationKey, Map<String, Object>> eldest) {
+                    return size() > MAX_CACHED_CONFIGURATIONS;
+                }
+            });
+
+    public Map<String, Object> getConfigurations(ImmutableJob immutableJob,
+                                                 ImmutableAction immutableAction,
+                                                 Map<String, Object> defaultConfigurations) {
+        ConfigurationKey configurationKey = new ConfigurationKey(immutableAction.getConfigurations(),
+                immutableJob.getConfigurations());
+        Map<String, Object> configurations = mergedConfigurations.get(configurationKey);
+        if (Objects.isNull(configurations)) {
+            LOGGER.debug("Parse configurations of job {} from action {}", immutableJob.getJobName(), immutableAction.getActionName());
+            configurations = mergeConfigurations(immutableJob, immutableAction, defaultConfigurations);
+            mergedConfigurations.put(configurationKey, configurations);
+        }
+        return copyOf(configurations);
+    }
+
+    /**
+     * Parse the configurations without the cache, dry runs must not fill it
+     */
+    public Map<String, Object> parseConfigurations(ImmutableJob immutableJob,
+                                                   ImmutableAction immutableAction,
+                                                   Map<String, Object> defaultConfigurations) {
+        return mergeConfigurations(immutableJob, immutableAction, defaultConfigurations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> mergeConfigurations(ImmutableJob immutableJob,
+                                                    ImmutableAction immutableAction,
+                                                    Map<String, Object> defaultConfigurations) {
+        CheckedSupplier<Map<String, Object>> jobConfigurationSupplier =
+                () -> objectMapper.readValue(immutableJob.getConfigurations(), Map.class);
+        CheckedSupplier<Map<String, Object>> actionConfigurationSupplier =
+                () -> objectMapper.readValue(immutableAction.getConfigurations(), Map.class);
+        HashMap<String, Object> configurationMap = new HashMap<>(defaultConfigurations);
+        configurationMap.putAll(actionConfigurationSupplier.get());
+        configurationMap.putAll(jobConfigurationSupplier.get());
+        return configurationMap;
+    }
+
+    /**
+     * Nested maps and lists are copied too, so a run changing its configurations never affects the next runs
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T copyOf(T value) {
+        if (value instanceof Map<?, ?> mapValue) {
+            Map<Object, Object> mapCopy = new HashMap<>();
+            mapValue.forEach((key, nestedValue) -> mapCopy.put(key, copyOf(nestedValue)));
+            return (T) mapCopy;
+        }
+        if (value instanceof List<?> listValue) {
+            List<Object> listCopy = new ArrayList<>(listValue.size());
+            listValue.forEach(nestedValue -> listCopy.add(copyOf(nestedValue)));
+            return (T) listCopy;
+        }
+        return value;
+    }
+
+    private record ConfigurationKey(String actionConfigurations, String jobConfigurations) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.hoatv.action.manager.services;
+
+import com.hoatv.action.manager.collections.JobContentDocument;
+import com.hoatv.action.manager.collections.JobDocument;
+import com.hoatv.fwk.common.exceptions.EntityNotFoundException;
+import com.hoatv.fwk.common.ultilities.ObjectUtils;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Keep the job content out of the job documents. The content is stored in the content store before a job is
+ * written and resolved after a job is read, so the callers keep using the job content of a JobDocument.
+ */
+@Component
+public class JobContentCallback implements BeforeConvertCallback<JobDocument>, AfterConvertCallback<JobDocument> {
+
+    private final JobContentStore jobContentStore;
+
+    @Autowired
+    public JobContentCallback(JobContentStore jobContentStore) {
+        this.jobContentStore = jobContentStore;
+    }
+
+    @Override
+    public JobDocument onBeforeConvert(JobDocument jobDocument, String collection) {
+        // A job read without its content keeps referencing the stored one
+        if (Objects.isNull(jobDocument.getJobContent()) && Objects.isNull(jobDocument.getContentTemplates())) {
+            return jobDocument;
+        }
+        // A job saved with the content it references already holds a reference, a new or changed content takes
+        // one. The previous content is released by the caller once the job is saved, the new one when the save
+        // fails.
+        String contentHash = JobContentStore.getContentHash(jobDocument.getJobContent(), jobDocument.getContentTemplates());
+        if (!contentHash.equals(jobDocument.getContentHash())) {
+            jobDocument.setContentHash(jobContentStore.store(jobDocument.getJobContent(),
+                    jobDocument.getContentTemplates()));
+        }
+        return jobDocument;
+    }
+
+    @Override
+    public JobDocument onAfterConvert(JobDocument jobDocument, Document document, String collection) {
+        String contentHash = jobDocument.getContentHash();
+        if (Objects.isNull(contentHash)) {
+            // Jobs written before the content store keep their content inline until they are migrated
+            jobDocument.setJobContent(document.getString(JobDocument.Fields.jobContent));
+            jobDocument.setContentTemplates(document.getString(JobDocument.Fields.contentTemplates));
+            return jobDocument;
+        }
+        // A job without its content cannot run nor be updated, it is not handed over with an empty script
+        JobContentDocument jobContentDocument = jobContentStore.getContent(contentHash);
+        ObjectUtils.checkThenThrow(Objects.isNull(jobContentDocument), () -> new EntityNotFoundException(
+                String.format("Cannot find the content %s of job %s", contentHash, jobDocument.getHash())));
+        jobDocument.setJobContent(jobContentDocument.getJobContent());
+        jobDocument.setContentTemplates(jobContentDocument.getContentTemplates());
+        return jobDocument;
+    }
+}
@@ -0,0 +1,189 @@
+package com.hoatv.action.manager.services;
+
+import com.hoatv.action.manager.collections.JobContentDocument;
+import com.hoatv.action.manager.collections.JobDocument;
+import com.hoatv.fwk.common.ultilities.DateTimeUtils;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Content-addressed storage of job scripts. The job content and content templates are stored once per
+ * SHA-256 of their value, the jobs sharing a script reference the same content document by this hash.
+ * Each content counts the jobs referencing it and is removed when the last one releases it.
+ */
+@Service
+public class JobContentStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobContentStore.class);
+
+    public static final int MAX_CACHED_JOB_CONTENTS = 1024;
+
+    private static final int MIGRATION_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final Map<String, JobContentDocument> jobContentCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(MAX_CACHED_JOB_CONTENTS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, JobContentDocument> eldest) {
+                    return size() > MAX_CACHED_JOB_CONTENTS;
+                }
+            });
+
+    @Autowired
+    public JobContentStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Add a reference to the content, the first reference inserts it. The upsert is always sent so a content
+     * removed by a concurrent release is inserted again, the hash of the content is returned
+     */
+    public String store(String jobContent, String contentTemplates) {
+        String contentHash = getContentHash(jobContent, contentTemplates);
+        mongoTemplate.upsert(toQuery(contentHash), new Update()
+                        .setOnInsert(JobContentDocument.Fields.jobContent, jobContent)
+                        .setOnInsert(JobContentDocument.Fields.contentTemplates, contentTemplates)
+                        .setOnInsert(JobContentDocument.Fields.createdAt, DateTimeUtils.getCurrentEpochTimeInMillisecond())
+                        .inc(JobContentDocument.Fields.referenceCount, 1),
+                JobContentDocument.class);
+        return contentHash;
+    }
+
+    public JobContentDocument getContent(String contentHash) {
+        JobContentDocument jobContentDocument = jobContentCache.get(contentHash);
+        if (Objects.nonNull(jobContentDocument)) {
+            return jobContentDocument;
+        }
+        jobContentDocument = mongoTemplate.findById(contentHash, JobContentDocument.class);
+        if (Objects.nonNull(jobContentDocument)) {
+            jobContentCache.put(contentHash, jobContentDocument);
+        }
+        return jobContentDocument;
+    }
+
+    /**
+     * One hash per job of the action, the jobs sharing a content give its hash once each
+     */
+    public List<String> getContentHashesOfAction(String actionId) {
+        Query query = Query.query(Criteria.where(JobDocument.Fields.actionId).is(actionId));
+        query.fields().include(JobDocument.Fields.contentHash);
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(JobDocument.class)).stream()
+                .map(job -> job.getString(JobDocument.Fields.contentHash))
+                .toList();
+    }
+
+    /**
+     * Remove one reference per given hash, a hash given for several jobs loses several references. The contents
+     * left without any reference are removed, the removed hashes are returned
+     */
+    public List<String> release(Collection<String> contentHashes) {
+        Map<String, Long> releasedReferences = contentHashes.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        List<String> deletedContentHashes = new ArrayList<>();
+        releasedReferences.forEach((contentHash, numberOfReferences) -> {
+            mongoTemplate.updateFirst(toQuery(contentHash),
+                    new Update().inc(JobContentDocument.Fields.referenceCount, -numberOfReferences),
+                    JobContentDocument.class);
+            // The reference count is checked by the remove itself, a job storing the content meanwhile keeps it
+            Query unreferencedQuery = toQuery(contentHash)
+                    .addCriteria(Criteria.where(JobContentDocument.Fields.referenceCount).lte(0));
+            if (mongoTemplate.remove(unreferencedQuery, JobContentDocument.class).getDeletedCount() > 0) {
+                jobContentCache.remove(contentHash);
+                deletedContentHashes.add(contentHash);
+            }
+        });
+        LOGGER.debug("Deleted {} unreferenced job contents", deletedContentHashes.size());
+        return deletedContentHashes;
+    }
+
+    /**
+     * Move the content kept inside the jobs written before the content store into the job contents. A migrated
+     * job no longer matches the query, so a stopped migration resumes with the jobs left without a hash.
+     */
+    public void migrateInlineContents() {
+        Criteria inlineContentCriteria = Criteria.where(JobDocument.Fields.contentHash).exists(false);
+        Query query = Query.query(inlineContentCriteria).limit(MIGRATION_BATCH_SIZE);
+        query.fields().include(JobDocument.Fields.jobContent, JobDocument.Fields.contentTemplates);
+        String jobCollectionName = mongoTemplate.getCollectionName(JobDocument.class);
+        long numberOfInlineJobs = mongoTemplate.count(Query.query(inlineContentCriteria), jobCollectionName);
+        if (numberOfInlineJobs == 0) {
+            return;
+        }
+        LOGGER.info("Moving the content of {} jobs into the job contents", numberOfInlineJobs);
+
+        long numberOfMigratedJobs = 0;
+        List<Document> jobs;
+        while (!(jobs = mongoTemplate.find(query, Document.class, jobCollectionName)).isEmpty()) {
+            for (Document job : jobs) {
+                String contentHash = store(job.getString(JobDocument.Fields.jobContent),
+                        job.getString(JobDocument.Fields.contentTemplates));
+                Query jobQuery = Query.query(Criteria.where(JobDocument.Fields.hash).is(job.get("_id")))
+                        .addCriteria(inlineContentCriteria);
+                UpdateResult updateResult = mongoTemplate.updateFirst(jobQuery, new Update()
+                                .set(JobDocument.Fields.contentHash, contentHash)
+                                .unset(JobDocument.Fields.jobContent)
+                                .unset(JobDocument.Fields.contentTemplates),
+                        JobDocument.class);
+                // A job saved or deleted meanwhile does not use the reference taken for its inline content
+                if (updateResult.getMatchedCount() == 0) {
+                    release(List.of(contentHash));
+                }
+            }
+            numberOfMigratedJobs += jobs.size();
+            LOGGER.info("Moved the content of {}/{} jobs into the job contents", numberOfMigratedJobs, numberOfInlineJobs);
+        }
+    }
+
+    /**
+     * Each part is prefixed by its length, so moving text between the content and the templates changes the hash
+     */
+    static String getContentHash(String jobContent, String contentTemplates) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            updateDigest(messageDigest, jobContent);
+            updateDigest(messageDigest, contentTemplates);
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not supported", exception);
+        }
+    }
+
+    private static void updateDigest(MessageDigest messageDigest, String part) {
+        if (Objects.isNull(part)) {
+            messageDigest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+        byte[] partBytes = part.getBytes(StandardCharsets.UTF_8);
+        messageDigest.update(ByteBuffer.allocate(Integer.BYTES).putInt(partBytes.length).array());
+        messageDigest.update(partBytes);
+    }
+
+    private static Query toQuery(String contentHash) {
+        return Query.query(Criteria.where(JobContentDocument.Fields.hash).is(contentHash));
+    }
+}
@@ -0,0 +1,136 @@
+package com.hoatv.action.manager.services;
+
+import com.hoatv.action.manager.dtos.LatencyStatisticsDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Execution latency histograms of persisted jobs, kept per job and per action. Only the action histograms are
+ * exported as gauges, the job histograms are served by the statistics endpoints so the number of exported
+ * series stays bounded by the number of actions.
+ */
+@Component
+public class JobLatencyStatistics {
+
+    private static final String ACTION_LATENCY_METRIC_NAME = "action.manager.action.latency";
+
+    private final Map<String, TrackedHistogram> jobHistograms = new ConcurrentHashMap<>();
+
+    private final Map<String, TrackedHistogram> actionHistograms = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final long windowSizeInMs;
+
+    private final int numberOfWindows;
+
+    @Autowired
+    public JobLatencyStatistics(ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                @Value("${action.manager.latency.window-size-ms:300000}") long windowSizeInMs,
+                                @Value("${action.manager.latency.number-of-windows:2}") int numberOfWindows) {
+        this.meterRegistry = meterRegistryProvider.getIfAvailable();
+        this.windowSizeInMs = windowSizeInMs;
+        this.numberOfWindows = numberOfWindows;
+    }
+
+    public void record(String jobId, String actionId, long latencyInMs) {
+        getOrCreateHistogram(jobHistograms, jobId, actionId, false).record(latencyInMs);
+        if (Objects.nonNull(actionId)) {
+            getOrCreateHistogram(actionHistograms, actionId, actionId, true).record(latencyInMs);
+        }
+    }
+
+    public LatencyStatisticsDTO getJobLatency(String jobId) {
+        return toLatencyStatistics(jobHistograms.get(jobId));
+    }
+
+    public LatencyStatisticsDTO getActionLatency(String actionId) {
+        return toLatencyStatistics(actionHistograms.get(actionId));
+    }
+
+    public void removeJob(String jobId) {
+        removeHistogram(jobHistograms.remove(jobId));
+    }
+
+    /**
+     * Removes the histograms of the action and of all its jobs
+     */
+    public void removeAction(String actionId) {
+        removeHistogram(actionHistograms.remove(actionId));
+        jobHistograms.entrySet().removeIf(entry -> {
+            boolean isBelongToAction = actionId.equals(entry.getValue().actionId());
+            if (isBelongToAction) {
+                removeHistogram(entry.getValue());
+            }
+            return isBelongToAction;
+        });
+    }
+
+    private LatencyHistogram getOrCreateHistogram(Map<String, TrackedHistogram> histograms,
+                                                  String id, String actionId, boolean isExported) {
+        // Look up first so the completion path does not allocate once the histogram exists
+        TrackedHistogram trackedHistogram = histograms.get(id);
+        if (Objects.isNull(trackedHistogram)) {
+            trackedHistogram = histograms.computeIfAbsent(id, key -> newHistogram(actionId, isExported));
+        }
+        return trackedHistogram.histogram();
+    }
+
+    private TrackedHistogram newHistogram(String actionId, boolean isExported) {
+        LatencyHistogram histogram = new LatencyHistogram(windowSizeInMs, numberOfWindows);
+        List<Meter> meters = new ArrayList<>();
+        if (isExported && Objects.nonNull(meterRegistry)) {
+            meters.add(registerGauge(ACTION_LATENCY_METRIC_NAME, actionId, "0.5", histogram, h -> h.getValueAtPercentile(50)));
+            meters.add(registerGauge(ACTION_LATENCY_METRIC_NAME, actionId, "0.95", histogram, h -> h.getValueAtPercentile(95)));
+            meters.add(registerGauge(ACTION_LATENCY_METRIC_NAME, actionId, "0.99", histogram, h -> h.getValueAtPercentile(99)));
+            meters.add(registerGauge(ACTION_LATENCY_METRIC_NAME + ".max", actionId, null, histogram, LatencyHistogram::getMaxValue));
+        }
+        return new TrackedHistogram(histogram, actionId, meters);
+    }
+
+    private Meter registerGauge(String metricName, String actionId, String quantile,
+                                LatencyHistogram histogram, ToDoubleFunction<LatencyHistogram> valueFunction) {
+        Gauge.Builder<LatencyHistogram> gaugeBuilder = Gauge.builder(metricName, histogram, valueFunction)
+                .baseUnit("milliseconds")
+                .tag("actionId", actionId);
+        if (Objects.nonNull(quantile)) {
+            gaugeBuilder.tag("quantile", quantile);
+        }
+        return gaugeBuilder.register(meterRegistry);
+    }
+
+    private void removeHistogram(TrackedHistogram trackedHistogram) {
+        if (Objects.nonNull(trackedHistogram) && Objects.nonNull(meterRegistry)) {
+            trackedHistogram.meters().forEach(meterRegistry::remove);
+        }
+    }
+
+    private static LatencyStatisticsDTO toLatencyStatistics(TrackedHistogram trackedHistogram) {
+        if (Objects.isNull(trackedHistogram)) {
+            return LatencyStatisticsDTO.builder().build();
+        }
+        LatencyHistogram histogram = trackedHistogram.histogram();
+        return LatencyStatisticsDTO.builder()
+                .count(histogram.getTotalCount())
+                .p50(histogram.getValueAtPercentile(50))
+                .p95(histogram.getValueAtPercentile(95))
+                .p99(histogram.getValueAtPercentile(99))
+                .max(histogram.getMaxValue())
+                .build();
+    }
+
+    private record TrackedHistogram(LatencyHistogram histogram, String actionId, List<Meter> meters) {
+    }
+}
@@ -1,6 +1,5 @@
 package com.hoatv.action.manager.services;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hoatv.action.manager.api.ImmutableAction;
 import com.hoatv.action.manager.api.ImmutableJob;
 import com.hoatv.action.manager.api.ImmutableJobResult;
@@ -9,23 +8,23 @@ import com.hoatv.action.manager.collections.*;
 import com.hoatv.action.manager.document.transformers.JobTransformer;
 import com.hoatv.action.manager.dtos.*;
 import com.hoatv.fwk.common.exceptions.EntityNotFoundException;
+import com.hoatv.fwk.common.exceptions.InvalidArgumentException;
 import com.hoatv.action.manager.repositories.JobDocumentRepository;
 import com.hoatv.action.manager.repositories.JobExecutionResultDocumentRepository;
+import com.hoatv.action.manager.utils.KeysetCursor;
 import com.hoatv.fwk.common.exceptions.AppException;
-import com.hoatv.fwk.common.services.CheckedSupplier;
 import com.hoatv.fwk.common.services.TemplateEngineEnum;
 import com.hoatv.fwk.common.ultilities.*;
 import com.hoatv.metric.mgmt.entities.ComplexValue;
 import com.hoatv.metric.mgmt.entities.MetricTag;
 import com.hoatv.metric.mgmt.services.MetricService;
 import com.hoatv.monitor.mgmt.LoggingMonitor;
-import com.hoatv.task.mgmt.entities.TaskEntry;
-import com.hoatv.task.mgmt.services.ScheduleTaskMgmtService;
 import com.hoatv.task.mgmt.services.TaskFactory;
 import com.hoatv.task.mgmt.services.TaskMgmtServiceV1;
 import jakarta.annotation.PostConstruct;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -33,9 +32,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.UnsetOperation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.util.Predicates;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -45,6 +53,7 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.concurrent.*;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.hoatv.action.manager.document.transformers.JobTransformer.updateFromJobDefinitionDTO;
@@ -63,11 +72,22 @@ public class JobManagerServiceImpl implements JobManagerService {
 
     private static final String TEMPLATE_ENGINE_NAME = "templateEngineName";
 
-    public static final int NUMBER_OF_SCHEDULE_THREADS = 100;
+    private static final String ID_FIELD = "_id";
 
-    private final ScriptEngineService scriptEngineService;
+    private static final String OVERVIEW_JOB_FIELD = "job";
+
+    // Newest jobs first, the hash breaks the ties of jobs created within the same second
+    private static final Sort JOB_KEYSET_SORT = Sort.by(Sort.Order.desc(JobDocument.Fields.createdAt),
+            Sort.Order.desc(JobDocument.Fields.hash));
+
+    // Newest job results first, a job result is created with its job
+    private static final Sort OVERVIEW_RESULT_KEYSET_SORT = Sort.by(Sort.Order.desc(JobResultDocument.Fields.createdAt),
+            Sort.Order.desc(ID_FIELD));
+
+    private static final Map<String, Object> DEFAULT_JOB_CONFIGURATIONS =
+            Map.of(TEMPLATE_ENGINE_NAME, JobTemplateRenderer.FREEMARKER_TEMPLATE_ENGINE);
 
-    private final ObjectMapper objectMapper;
+    private final ScriptEngineService scriptEngineService;
 
     private final JobDocumentRepository jobDocumentRepository;
 
@@ -81,13 +101,29 @@ public class JobManagerServiceImpl implements JobManagerService {
 
     private final TaskMgmtServiceV1 cpuTaskMgmtService;
 
-    private final ScheduleTaskMgmtService scheduleTaskMgmtService;
-
     private final MongoTemplate mongoTemplate;
 
     private final KafkaConsumerStatusService kafkaConsumerStatusService;
 
-    private final Map<String, ScheduledFuture<?>> scheduledJobRegistry = new ConcurrentHashMap<>();
+    private final JobTemplateRenderer jobTemplateRenderer;
+
+    private final JobConfigurationCache jobConfigurationCache;
+
+    private final VirtualThreadJobExecutor virtualThreadJobExecutor;
+
+    private final TimingWheelScheduler timingWheelScheduler;
+
+    private final JobLatencyStatistics jobLatencyStatistics;
+
+    private final JobRunHistoryService jobRunHistoryService;
+
+    private final JobResultWriteBehindBuffer jobResultWriteBehindBuffer;
+
+    private final JobContentStore jobContentStore;
+
+    private final ActionManagerStatistics actionManagerStatistics;
+
+    private final Map<String, TimingWheelScheduler.ScheduledTask> scheduledJobRegistry = new ConcurrentHashMap<>();
 
     private final GenericKeyedLock<String> jobExecutionLock = new GenericKeyedLock<>();
 
@@ -97,13 +133,31 @@ public class JobManagerServiceImpl implements JobManagerService {
                                  JobManagerStatistics jobManagerStatistics,
                                  JobExecutionResultDocumentRepository jobResultDocumentRepository,
                                  MongoTemplate mongoTemplate,
-                                 KafkaConsumerStatusService kafkaConsumerStatusService) {
+                                 KafkaConsumerStatusService kafkaConsumerStatusService,
+                                 JobTemplateRenderer jobTemplateRenderer,
+                                 JobConfigurationCache jobConfigurationCache,
+                                 VirtualThreadJobExecutor virtualThreadJobExecutor,
+                                 TimingWheelScheduler timingWheelScheduler,
+                                 JobLatencyStatistics jobLatencyStatistics,
+                                 JobRunHistoryService jobRunHistoryService,
+                                 JobResultWriteBehindBuffer jobResultWriteBehindBuffer,
+                                 JobContentStore jobContentStore,
+                                 ActionManagerStatistics actionManagerStatistics) {
         this.scriptEngineService = scriptEngineService;
         this.jobDocumentRepository = jobDocumentRepository;
         this.jobResultDocumentRepository = jobResultDocumentRepository;
         this.jobManagerStatistics = jobManagerStatistics;
         this.mongoTemplate = mongoTemplate;
         this.kafkaConsumerStatusService = kafkaConsumerStatusService;
+        this.jobTemplateRenderer = jobTemplateRenderer;
+        this.jobConfigurationCache = jobConfigurationCache;
+        this.virtualThreadJobExecutor = virtualThreadJobExecutor;
+        this.timingWheelScheduler = timingWheelScheduler;
+        this.jobLatencyStatistics = jobLatencyStatistics;
+        this.jobRunHistoryService = jobRunHistoryService;
+        this.jobResultWriteBehindBuffer = jobResultWriteBehindBuffer;
+        this.jobContentStore = jobContentStore;
+        this.actionManagerStatistics = actionManagerStatistics;
         this.metricService = new MetricService();
         this.ioTaskMgmtService = TaskFactory.INSTANCE.getTaskMgmtServiceV1(
                 NUMBER_OF_JOB_THREADS,
@@ -116,16 +170,11 @@ public class JobManagerServiceImpl implements JobManagerService {
                 MAX_AWAIT_TERMINATION_MILLIS,
                 CPU_JOB_MANAGER_APPLICATION
         );
-        this.scheduleTaskMgmtService = TaskFactory.INSTANCE.newScheduleTaskMgmtService(
-                ACTION_MANAGER,
-                NUMBER_OF_SCHEDULE_THREADS,
-                MAX_AWAIT_TERMINATION_MILLIS
-        );
-        this.objectMapper = new ObjectMapper();
         this.jobManagerStatistics.setMetricService(metricService);
         this.jobManagerStatistics.setIoTaskMgmtService(ioTaskMgmtService);
         this.jobManagerStatistics.setCpuTaskMgmtService(cpuTaskMgmtService);
-        this.jobManagerStatistics.setScheduleTaskMgmtService(scheduleTaskMgmtService);
+        this.jobManagerStatistics.setTimingWheelScheduler(timingWheelScheduler);
+        this.jobManagerStatistics.setVirtualThreadJobExecutor(virtualThreadJobExecutor);
     }
 
     @PostConstruct
@@ -145,7 +194,7 @@ public class JobManagerServiceImpl implements JobManagerService {
     @Override
     @LoggingMonitor(description = "Get enabled schedule jobs from active actions: {argument0}")
     public Map<String, Map<String, String>> getEnabledScheduleJobsGroupByActionId(Set<String> actionIds) {
-        List<JobDocument> scheduledJobDocuments = jobDocumentRepository.
+        List<JobSummary> scheduledJobDocuments = jobDocumentRepository.
                 findByIsScheduledTrueAndJobStatusAndActionIdIn(JobStatus.ACTIVE, actionIds);
         List<JobResultDocument> jobResultDocuments = getJobResultDocuments(scheduledJobDocuments);
 
@@ -171,40 +220,132 @@ public class JobManagerServiceImpl implements JobManagerService {
     @Override
     @LoggingMonitor(description = "Get job summary with page info: {argument0}, status filter: {argument1}")
     public Page<JobOverviewDTO> getOverviewJobs(PageRequest pageRequest, JobExecutionStatus statusFilter) {
-        Page<JobDocument> jobDocuments;
-        
         if (statusFilter != null) {
-            // Get filtered job IDs from JobResultDocument
-            Query query = new Query(Criteria
-                .where(JobResultDocument.Fields.jobExecutionStatus)
-                .is(statusFilter));
-            
-            List<JobResultDocument> filteredResults = mongoTemplate
-                .find(query, JobResultDocument.class);
-            
-            List<String> filteredJobIds = filteredResults.stream()
-                .map(JobResultDocument::getJobId)
-                .toList();
-            
-            if (filteredJobIds.isEmpty()) {
-                return Page.empty(pageRequest);
-            }
-            
-            // Get job documents for those IDs with pagination
-            jobDocuments = jobDocumentRepository.findByHashIn(filteredJobIds, pageRequest);
-        } else {
-            // Existing logic for all jobs
-            jobDocuments = jobDocumentRepository.findAll(pageRequest);
+            return getOverviewJobsByStatus(pageRequest, statusFilter);
         }
-        
+        Page<JobSummary> jobDocuments = jobDocumentRepository.findAllBy(pageRequest);
         List<JobResultDocument> jobResultDocuments = getJobResultDocuments(jobDocuments);
         return JobTransformer.getJobOverviewDTOs(jobDocuments, jobResultDocuments);
     }
 
+    /**
+     * Page the job results in the given status on their creation time, a job result is created with its job.
+     * The status and the creation time are read from the results index, only the results of the page are
+     * joined with their jobs. Only the creation time can be sorted on, the results index holds no other field.
+     */
+    private Page<JobOverviewDTO> getOverviewJobsByStatus(PageRequest pageRequest, JobExecutionStatus statusFilter) {
+        Sort sort = pageRequest.getSort();
+        ObjectUtils.checkThenThrow(sort.stream().anyMatch(order -> !JobDocument.Fields.createdAt.equals(order.getProperty())),
+                () -> new InvalidArgumentException(String.format("Jobs filtered by status can only be sorted by %s, not by %s",
+                        JobDocument.Fields.createdAt, sort)));
+        // The status is matched in the database, the pending states are written first
+        jobResultWriteBehindBuffer.flush();
+        Sort.Direction direction = Optional.ofNullable(sort.getOrderFor(JobDocument.Fields.createdAt))
+                .map(Sort.Order::getDirection)
+                .orElse(Sort.Direction.DESC);
+        Criteria statusCriteria = Criteria.where(JobResultDocument.Fields.jobExecutionStatus).is(statusFilter);
+        List<AggregationOperation> operations = new ArrayList<>(List.of(
+                Aggregation.match(statusCriteria),
+                // The id breaks the ties of results created within the same second, so the pages do not overlap
+                Aggregation.sort(Sort.by(direction, JobResultDocument.Fields.createdAt, ID_FIELD)),
+                Aggregation.skip(pageRequest.getOffset()),
+                Aggregation.limit(pageRequest.getPageSize())));
+        operations.addAll(getOverviewJobLookupOperations(false));
+        Aggregation aggregation = Aggregation.newAggregation(operations);
+
+        MongoConverter mongoConverter = mongoTemplate.getConverter();
+        List<JobSummary> jobDocuments = new ArrayList<>();
+        List<JobResultDocument> jobResultDocuments = new ArrayList<>();
+        mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(JobResultDocument.class), Document.class)
+                .forEach(row -> {
+                    jobDocuments.add(mongoConverter.read(JobSummary.class, row.get(OVERVIEW_JOB_FIELD, Document.class)));
+                    jobResultDocuments.add(mongoConverter.read(JobResultDocument.class, row));
+                });
+        jobResultWriteBehindBuffer.applyPending(jobResultDocuments);
+        long total = countOverviewJobs(statusCriteria);
+        return JobTransformer.getJobOverviewDTOs(new PageImpl<>(jobDocuments, pageRequest, total), jobResultDocuments);
+    }
+
+    /**
+     * Join the job results with their jobs, the results left without a job are dropped unless they are kept
+     */
+    private List<AggregationOperation> getOverviewJobLookupOperations(boolean isKeepingResultsWithoutJob) {
+        return List.of(
+                Aggregation.lookup(mongoTemplate.getCollectionName(JobDocument.class),
+                        JobResultDocument.Fields.jobId, ID_FIELD, OVERVIEW_JOB_FIELD),
+                Aggregation.unwind(OVERVIEW_JOB_FIELD, isKeepingResultsWithoutJob),
+                // The job content and configurations are not shown in the overview
+                UnsetOperation.unset(OVERVIEW_JOB_FIELD + "." + JobDocument.Fields.jobContent,
+                        OVERVIEW_JOB_FIELD + "." + JobDocument.Fields.configurations,
+                        OVERVIEW_JOB_FIELD + "." + JobDocument.Fields.contentTemplates));
+    }
+
+    /**
+     * Count the job results on the status index alone, a job result is removed before its job so every counted
+     * result is joined with a job on the pages
+     */
+    private long countOverviewJobs(Criteria jobResultCriteria) {
+        return mongoTemplate.count(Query.query(jobResultCriteria), JobResultDocument.class);
+    }
+
+    @Override
+    @LoggingMonitor(description = "Get job summary after cursor: {argument0}, status filter: {argument2}")
+    public CursorPageResponseDTO<JobOverviewDTO> getOverviewJobs(String cursor, int pageSize,
+                                                                 JobExecutionStatus statusFilter, boolean includeTotal) {
+        if (statusFilter != null) {
+            return getOverviewJobsByStatus(cursor, pageSize, statusFilter, includeTotal);
+        }
+        return getJobOverviewsAfter(new Query(), cursor, pageSize, includeTotal);
+    }
+
+    /**
+     * Keyset variant of the status filtered overview, the cursor and the limit are applied on the results index
+     * and only the results of the page are joined with their jobs
+     */
+    private CursorPageResponseDTO<JobOverviewDTO> getOverviewJobsByStatus(String cursor, int pageSize,
+                                                                           JobExecutionStatus statusFilter,
+                                                                           boolean includeTotal) {
+        jobResultWriteBehindBuffer.flush();
+        Criteria statusCriteria = Criteria.where(JobResultDocument.Fields.jobExecutionStatus).is(statusFilter);
+        List<AggregationOperation> operations = new ArrayList<>();
+        operations.add(Aggregation.match(statusCriteria));
+        if (Objects.nonNull(cursor)) {
+            operations.add(Aggregation.match(KeysetCursor.after(OVERVIEW_RESULT_KEYSET_SORT, KeysetCursor.decode(cursor, 2))));
+        }
+        operations.add(Aggregation.sort(OVERVIEW_RESULT_KEYSET_SORT));
+        operations.add(Aggregation.limit(pageSize + 1L));
+        // The results without a job are kept until the cursor is taken, so they do not end the pages early
+        operations.addAll(getOverviewJobLookupOperations(true));
+        List<Document> rows = mongoTemplate.aggregate(Aggregation.newAggregation(operations),
+                mongoTemplate.getCollectionName(JobResultDocument.class), Document.class).getMappedResults();
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Document> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Document lastRow = pageRows.getLast();
+            nextCursor = KeysetCursor.encode(List.of(lastRow.get(JobResultDocument.Fields.createdAt), lastRow.get(ID_FIELD)));
+        }
+        MongoConverter mongoConverter = mongoTemplate.getConverter();
+        List<JobSummary> jobDocuments = new ArrayList<>();
+        List<JobResultDocument> jobResultDocuments = new ArrayList<>();
+        pageRows.stream()
+                .filter(row -> row.containsKey(OVERVIEW_JOB_FIELD))
+                .forEach(row -> {
+                    jobDocuments.add(mongoConverter.read(JobSummary.class, row.get(OVERVIEW_JOB_FIELD, Document.class)));
+                    jobResultDocuments.add(mongoConverter.read(JobResultDocument.class, row));
+                });
+        jobResultWriteBehindBuffer.applyPending(jobResultDocuments);
+        Long total = includeTotal ? countOverviewJobs(statusCriteria) : null;
+        Page<JobOverviewDTO> jobOverviewDTOs = JobTransformer.getJobOverviewDTOs(new PageImpl<>(jobDocuments),
+                jobResultDocuments);
+        return new CursorPageResponseDTO<>(jobOverviewDTOs.getContent(), nextCursor, total);
+    }
+
     @Override
     @LoggingMonitor(description = "Get jobs from action hash: {argument0}, page info: {argument1}")
     public Page<JobOverviewDTO> getJobsFromAction(String actionId, PageRequest pageRequest, String searchText) {
-        Page<JobDocument> jobDocuments;
+        Page<JobSummary> jobDocuments;
         if (searchText != null && !searchText.trim().isEmpty()) {
             jobDocuments = jobDocumentRepository.findJobByActionIdAndJobNameContainingIgnoreCase(actionId, searchText.trim(), pageRequest);
         } else {
@@ -215,26 +356,74 @@ public class JobManagerServiceImpl implements JobManagerService {
         return enrichWithConsumerStatus(jobOverviewDTOs);
     }
 
+    @Override
+    @LoggingMonitor(description = "Get jobs from action hash: {argument0} after cursor: {argument1}")
+    public CursorPageResponseDTO<JobOverviewDTO> getJobsFromAction(String actionId, String cursor, int pageSize,
+                                                                   String searchText, boolean includeTotal) {
+        Query query = Query.query(Criteria.where(JobDocument.Fields.actionId).is(actionId));
+        if (StringUtils.isNotBlank(searchText)) {
+            query.addCriteria(Criteria.where(JobDocument.Fields.jobName).regex(Pattern.quote(searchText.trim()), "i"));
+        }
+        CursorPageResponseDTO<JobOverviewDTO> jobOverviewDTOs = getJobOverviewsAfter(query, cursor, pageSize, includeTotal);
+        jobOverviewDTOs.getContent().forEach(this::enrichJobWithConsumerStatus);
+        return jobOverviewDTOs;
+    }
+
+    private CursorPageResponseDTO<JobOverviewDTO> getJobOverviewsAfter(Query query, String cursor, int pageSize,
+                                                                       boolean includeTotal) {
+        Long total = includeTotal ? mongoTemplate.count(query, JobDocument.class) : null;
+        if (Objects.nonNull(cursor)) {
+            query.addCriteria(KeysetCursor.after(JOB_KEYSET_SORT, KeysetCursor.decode(cursor, 2)));
+        }
+        query.with(JOB_KEYSET_SORT).limit(pageSize + 1);
+        List<JobSummary> jobDocuments = mongoTemplate.query(JobDocument.class)
+                .as(JobSummary.class)
+                .matching(query)
+                .all();
+        List<JobResultDocument> jobResultDocuments = getJobResultDocuments(jobDocuments);
+        return toJobOverviewCursorPage(jobDocuments, jobResultDocuments, pageSize, total);
+    }
+
+    /**
+     * One more job than the page size is read to know whether a next page exists without counting
+     */
+    private static CursorPageResponseDTO<JobOverviewDTO> toJobOverviewCursorPage(List<JobSummary> jobDocuments,
+                                                                                 List<JobResultDocument> jobResultDocuments,
+                                                                                 int pageSize, Long total) {
+        boolean hasNext = jobDocuments.size() > pageSize;
+        List<JobSummary> pageJobDocuments = hasNext ? jobDocuments.subList(0, pageSize) : jobDocuments;
+        String nextCursor = null;
+        if (hasNext) {
+            JobSummary lastJobDocument = pageJobDocuments.getLast();
+            nextCursor = KeysetCursor.encode(List.of(lastJobDocument.createdAt(), lastJobDocument.hash()));
+        }
+        Page<JobOverviewDTO> jobOverviewDTOs = JobTransformer.getJobOverviewDTOs(new PageImpl<>(pageJobDocuments),
+                jobResultDocuments);
+        return new CursorPageResponseDTO<>(jobOverviewDTOs.getContent(), nextCursor, total);
+    }
+
     /**
      * Enrich JobOverviewDTOs with Kafka consumer status information
      */
     private Page<JobOverviewDTO> enrichWithConsumerStatus(Page<JobOverviewDTO> jobOverviewDTOs) {
-        return jobOverviewDTOs.map(jobOverviewDTO -> {
-            try {
-                boolean hasConsumer = kafkaConsumerStatusService.hasActiveConsumer(jobOverviewDTO.getName());
-                jobOverviewDTO.setHasActiveConsumer(hasConsumer);
-            } catch (Exception e) {
-                LOGGER.error("Failed to check consumer status for job '{}': {}", jobOverviewDTO.getName(), e.getMessage());
-                jobOverviewDTO.setHasActiveConsumer(false);
-            }
-            return jobOverviewDTO;
-        });
+        return jobOverviewDTOs.map(this::enrichJobWithConsumerStatus);
+    }
+
+    private JobOverviewDTO enrichJobWithConsumerStatus(JobOverviewDTO jobOverviewDTO) {
+        try {
+            boolean hasConsumer = kafkaConsumerStatusService.hasActiveConsumer(jobOverviewDTO.getName());
+            jobOverviewDTO.setHasActiveConsumer(hasConsumer);
+        } catch (Exception e) {
+            LOGGER.error("Failed to check consumer status for job '{}': {}", jobOverviewDTO.getName(), e.getMessage());
+            jobOverviewDTO.setHasActiveConsumer(false);
+        }
+        return jobOverviewDTO;
     }
 
     @Override
     @LoggingMonitor(description = "Get jobs from action hash {argument0}")
     public Map<String, String> getJobsFromAction(String actionId, Predicate<JobResultDocument> filter) {
-        List<JobDocument> jobDocuments = jobDocumentRepository.findJobByActionId(actionId);
+        List<JobSummary> jobDocuments = jobDocumentRepository.findJobSummaryByActionId(actionId);
         List<JobResultDocument> jobResultDocuments = getJobResultDocuments(jobDocuments);
         return getJobDocumentPairs(jobDocuments, jobResultDocuments, filter)
                 .stream().collect(Collectors.toMap(Triplet::getSecond, Triplet::getThird));
@@ -243,7 +432,7 @@ public class JobManagerServiceImpl implements JobManagerService {
     @Override
     @LoggingMonitor(description = "Get one time jobs from action hash {argument0}")
     public Map<String, String> getEnabledOnetimeJobs(String actionId) {
-        List<JobDocument> jobDocuments = jobDocumentRepository.findByIsScheduledFalseAndJobStatusAndActionId(JobStatus.ACTIVE, actionId);
+        List<JobSummary> jobDocuments = jobDocumentRepository.findByIsScheduledFalseAndJobStatusAndActionId(JobStatus.ACTIVE, actionId);
         List<JobResultDocument> jobResultDocuments = getJobResultDocuments(jobDocuments);
         return getJobDocumentPairs(jobDocuments, jobResultDocuments, Predicates.isTrue())
                 .stream().collect(Collectors.toMap(Triplet::getSecond, Triplet::getThird));
@@ -252,7 +441,7 @@ public class JobManagerServiceImpl implements JobManagerService {
     @Override
     @LoggingMonitor(description = "Get enabled scheduled jobs from action hash {argument0}")
     public Map<String, String> getEnabledScheduledJobs(String actionId) {
-        List<JobDocument> jobDocuments = jobDocumentRepository.findByIsScheduledTrueAndJobStatusAndActionId(JobStatus.ACTIVE, actionId);
+        List<JobSummary> jobDocuments = jobDocumentRepository.findByIsScheduledTrueAndJobStatusAndActionId(JobStatus.ACTIVE, actionId);
         List<JobResultDocument> jobResultDocuments = getJobResultDocuments(jobDocuments);
         return getJobDocumentPairs(jobDocuments, jobResultDocuments, Predicates.isTrue())
                 .stream().collect(Collectors.toMap(Triplet::getSecond, Triplet::getThird));
@@ -272,15 +461,12 @@ public class JobManagerServiceImpl implements JobManagerService {
 
         jobDocument.setJobStatus(JobStatus.PAUSED);
         if (jobDocument.isScheduled()) {
-            scheduledJobRegistry.entrySet().stream()
-                    .filter(p -> jobHash.equals(p.getKey()))
-                    .filter(p -> Objects.nonNull(p.getValue()))
-                    .peek(p -> LOGGER.info("Delete the schedule tasks - {} on {} job", p.getKey(), jobName))
-                    .map(Map.Entry::getValue)
-                    .forEach(scheduleTaskMgmtService::cancel);
+            LOGGER.info("Delete the schedule tasks - {} on {} job", jobHash, jobName);
+            cancelScheduledJob(jobHash);
             metricService.removeMetric(jobHash);
         }
-        jobDocumentRepository.save(jobDocument);
+        mongoTemplate.updateFirst(Query.query(Criteria.where(JobDocument.Fields.hash).is(jobHash)),
+                Update.update(JobDocument.Fields.jobStatus, JobStatus.PAUSED), JobDocument.class);
     }
 
     @Override
@@ -293,15 +479,27 @@ public class JobManagerServiceImpl implements JobManagerService {
         String jobName = jobDocument.getJobName();
         if (jobDocument.isScheduled() && jobDocument.getJobStatus() == JobStatus.ACTIVE) {
             LOGGER.info("Delete the schedule tasks for {} job", jobName);
-            ScheduledFuture<?> scheduledFuture = scheduledJobRegistry.get(jobId);
-            scheduleTaskMgmtService.cancel(scheduledFuture);
+            cancelScheduledJob(jobId);
             LOGGER.info("Delete the metric tasks for {} job", jobName);
             metricService.removeMetric(jobId);
         }
-        jobDocumentRepository.delete(jobDocument);
-        JobResultDocument jobResultDocument = jobResultDocumentRepository.findByJobId(jobId);
+        // The job result goes first, a job result never outlives its job in the status filtered overviews
+        JobResultDocument jobResultDocument = getJobResultDocument(jobId);
+        jobResultWriteBehindBuffer.discard(jobResultDocument.getHash());
         jobResultDocumentRepository.delete(jobResultDocument);
         LOGGER.info("Deleted the job results for {} job ", jobName);
+        jobDocumentRepository.delete(jobDocument);
+        releaseContents(Collections.singletonList(jobDocument.getContentHash()));
+        jobLatencyStatistics.removeJob(jobId);
+        jobRunHistoryService.deleteByJobId(jobId);
+
+        String actionId = jobDocument.getActionId();
+        actionManagerStatistics.decreaseNumberOfJobs(actionId, jobDocument.isScheduled(),
+                jobResultDocument.getJobExecutionStatus());
+        // A removed job leaves nothing for the statistics replay to find, the action is marked as changed instead
+        mongoTemplate.updateFirst(Query.query(Criteria.where(ActionDocument.Fields.hash).is(actionId)),
+                Update.update(ActionDocument.Fields.updatedAt, DateTimeUtils.getCurrentEpochTimeInMillisecond()),
+                ActionDocument.class);
     }
 
     @Override
@@ -309,19 +507,21 @@ public class JobManagerServiceImpl implements JobManagerService {
     @LoggingMonitor(description = "Delete job by action: {argument0}")
     public void deleteJobsByActionId(String actionId) {
         LOGGER.info("Deleted the job result documents belong to action {}", actionId);
-        List<JobDocument> jobIds = jobDocumentRepository.findByIsScheduledTrueAndJobStatusAndActionId(JobStatus.ACTIVE, actionId);
-        List<String> jobIdStrings = jobIds.stream().map(JobDocument::getHash).toList();
-
-        scheduledJobRegistry.entrySet().stream()
-                .filter(p -> jobIdStrings.contains(p.getKey()))
-                .filter(p -> Objects.nonNull(p.getValue()))
-                .peek(p -> LOGGER.info("Delete the schedule tasks - {}", p.getKey()))
-                .map(Map.Entry::getValue)
-                .forEach(scheduleTaskMgmtService::cancel);
+        List<JobSummary> jobIds = jobDocumentRepository.findByIsScheduledTrueAndJobStatusAndActionId(JobStatus.ACTIVE, actionId);
+        List<String> jobIdStrings = jobIds.stream().map(JobSummary::hash).toList();
+
+        jobIdStrings.stream()
+                .peek(jobId -> LOGGER.info("Delete the schedule tasks - {}", jobId))
+                .forEach(this::cancelScheduledJob);
         jobIdStrings.forEach(metricService::removeMetric);
+        jobLatencyStatistics.removeAction(actionId);
+        jobRunHistoryService.deleteByActionId(actionId);
+        // The job results go first, a job result never outlives its job in the status filtered overviews
+        jobResultDocumentRepository.deleteByActionId(actionId);
+        List<String> contentHashes = jobContentStore.getContentHashesOfAction(actionId);
         jobDocumentRepository.deleteByActionId(actionId);
+        releaseContents(contentHashes);
         LOGGER.info("Deleted the job documents belong to action {}", actionId);
-        jobResultDocumentRepository.deleteByActionId(actionId);
     }
 
     @Override
@@ -336,16 +536,32 @@ public class JobManagerServiceImpl implements JobManagerService {
     public void processBulkJobs(ActionExecutionContext actionExecutionContext) {
         boolean isRelayAction = actionExecutionContext.isRelayAction();
         Map<String, String> jobDocumentInAction = actionExecutionContext.getJobDocumentPairs();
-        jobDocumentInAction.forEach((jobHash, jobResultHash) -> {
-            Optional<JobDocument> jobDocumentOptional = jobDocumentRepository.findById(jobHash);
-            ObjectUtils.checkThenThrow(jobDocumentOptional.isEmpty(), "Cannot find job with hash" + jobHash);
-            JobDocument jobDocument = jobDocumentOptional.get();
-            Optional<JobResultDocument> jobResultDocumentOp = jobResultDocumentRepository.findById(jobResultHash);
-            ObjectUtils.checkThenThrow(jobResultDocumentOp.isEmpty(), "Cannot find job result with hash" + jobResultHash);
-            JobResultDocument jobResultDocument = jobResultDocumentOp.get();
-            ImmutableAction immutableAction = actionExecutionContext.getActionDocument();
-            processJob(jobDocument, jobResultDocument, immutableAction, actionExecutionContext.getOnCompletedJobCallback(), isRelayAction);
-        });
+        if (jobDocumentInAction.isEmpty()) {
+            return;
+        }
+
+        Map<String, JobDocument> jobDocuments = jobDocumentRepository.findAllById(jobDocumentInAction.keySet())
+                .stream()
+                .collect(Collectors.toMap(JobDocument::getHash, jobDocument -> jobDocument));
+        Map<String, JobResultDocument> jobResultDocuments = jobResultDocumentRepository.findAllById(jobDocumentInAction.values())
+                .stream()
+                .collect(Collectors.toMap(JobResultDocument::getHash, jobResultDocument -> jobResultDocument));
+        jobResultWriteBehindBuffer.applyPending(jobResultDocuments.values());
+
+        List<String> missingJobHashes = jobDocumentInAction.keySet().stream()
+                .filter(jobHash -> !jobDocuments.containsKey(jobHash))
+                .toList();
+        List<String> missingJobResultHashes = jobDocumentInAction.values().stream()
+                .filter(jobResultHash -> !jobResultDocuments.containsKey(jobResultHash))
+                .toList();
+        ObjectUtils.checkThenThrow(!missingJobHashes.isEmpty() || !missingJobResultHashes.isEmpty(),
+                String.format("Cannot find jobs with hashes %s and job results with hashes %s",
+                        missingJobHashes, missingJobResultHashes));
+
+        ImmutableAction immutableAction = actionExecutionContext.getActionDocument();
+        jobDocumentInAction.forEach((jobHash, jobResultHash) ->
+                processJob(jobDocuments.get(jobHash), jobResultDocuments.get(jobResultHash), immutableAction,
+                        actionExecutionContext.getOnCompletedJobCallback(), isRelayAction));
     }
 
     @Override
@@ -358,8 +574,12 @@ public class JobManagerServiceImpl implements JobManagerService {
         jobManagerStatistics.increaseNumberOfJobs();
         if (immutableJob.isScheduled() && !isRelayAction) {
             String jobResultDocumentHash = jobResultDocument.getHash();
-            ScheduledFuture<?> scheduledFuture = processScheduleJob(immutableJob, jobResultDocumentHash, immutableAction, callback);
-            scheduledJobRegistry.put(immutableJob.getHash(), scheduledFuture);
+            TimingWheelScheduler.ScheduledTask scheduledTask =
+                    processScheduleJob(immutableJob, jobResultDocumentHash, immutableAction, callback);
+            TimingWheelScheduler.ScheduledTask prevScheduledTask = scheduledJobRegistry.put(immutableJob.getHash(), scheduledTask);
+            if (Objects.nonNull(prevScheduledTask)) {
+                prevScheduledTask.cancel();
+            }
             return;
         }
         if (immutableJob.isAsync() || isRelayAction) {
@@ -376,6 +596,11 @@ public class JobManagerServiceImpl implements JobManagerService {
         return JobTransformer.jobDetailDTO(jobDocument);
     }
 
+    @Override
+    public Page<JobRunDTO> getJobRuns(String jobId, Pageable pageable) {
+        return jobRunHistoryService.getJobRuns(jobId, pageable).map(JobTransformer::toJobRunDTO);
+    }
+
     @Override
     public List<JobDocumentRepository.JobIdImmutable> getJobIdsByAction(String actionId) {
         return jobDocumentRepository.findJobsByActionId(actionId);
@@ -388,12 +613,20 @@ public class JobManagerServiceImpl implements JobManagerService {
         return jobDocumentOptional.orElseThrow(() -> new EntityNotFoundException("Cannot find job ID: " + hash));
     }
 
+    @Override
+    @LoggingMonitor(description = "Get job result document from job hash: {argument0}")
+    public JobResultDocument getJobResultDocument(String jobId) {
+        JobResultDocument jobResultDocument = jobResultDocumentRepository.findByJobId(jobId);
+        jobResultWriteBehindBuffer.applyPending(jobResultDocument);
+        return jobResultDocument;
+    }
+
     @Override
     @Transactional
     @LoggingMonitor(description = "Initial job: {argument0.getJobName()} from job definition")
     public Pair<String, String> initialJobs(JobDefinitionDTO jobDefinitionDTO, String actionId) {
         JobDocument entity = JobTransformer.fromJobDefinition(jobDefinitionDTO, actionId);
-        JobDocument jobDocument = jobDocumentRepository.save(entity);
+        JobDocument jobDocument = saveJobDocument(entity);
         JobResultDocument.JobResultDocumentBuilder jobResultDocumentBuilder = JobResultDocument.builder()
                 .jobState(JobState.INITIAL)
                 .jobExecutionStatus(JobExecutionStatus.PENDING)
@@ -404,12 +637,52 @@ public class JobManagerServiceImpl implements JobManagerService {
         return Pair.of(jobDocument.getHash(), jobResultDocument.getHash());
     }
 
+    @Override
+    @Transactional
+    @LoggingMonitor(description = "Initial {argument0.size()} jobs for action: {argument1}")
+    public Map<String, String> initialJobs(List<JobDefinitionDTO> jobDefinitionDTOs, String actionId) {
+        if (jobDefinitionDTOs.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        long createdAt = DateTimeUtils.getCurrentEpochTimeInSecond();
+        List<JobDocument> jobDocuments = jobDefinitionDTOs.stream()
+                .map(jobDefinitionDTO -> JobTransformer.fromJobDefinition(jobDefinitionDTO, actionId))
+                .toList();
+        List<JobResultDocument> jobResultDocuments = jobDocuments.stream()
+                .map(jobDocument -> JobResultDocument.builder()
+                        .jobState(JobState.INITIAL)
+                        .jobExecutionStatus(JobExecutionStatus.PENDING)
+                        .actionId(actionId)
+                        .createdAt(createdAt)
+                        .jobId(jobDocument.getHash())
+                        .build())
+                .toList();
+
+        // The two bulk inserts are not atomic without a Mongo transaction manager, a failure removes what was inserted
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobDocument.class)
+                    .insert(jobDocuments)
+                    .execute();
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobResultDocument.class)
+                    .insert(jobResultDocuments)
+                    .execute();
+        } catch (RuntimeException exception) {
+            LOGGER.error("Cannot insert {} jobs for action {}, removing the inserted ones", jobDocuments.size(), actionId);
+            removeInsertedJobs(jobDocuments);
+            throw exception;
+        }
+
+        return jobResultDocuments.stream()
+                .collect(Collectors.toMap(JobResultDocument::getJobId, JobResultDocument::getHash));
+    }
+
     @Override
     @LoggingMonitor(description = "Dry run job: {argument0.getJobName()}")
     public void processNonePersistenceJob(ImmutableJob immutableJob, ImmutableAction immutableAction) {
         String jobName = immutableJob.getJobName();
         try {
-            ImmutableJobResult jobResultImmutable = process(immutableJob, immutableAction);
+            ImmutableJobResult jobResultImmutable = process(immutableJob, immutableAction, false);
             LOGGER.info("Job result: {}", jobResultImmutable);
         } catch (Exception exception) {
             LOGGER.error("An exception occurred while processing {} job", jobName, exception);
@@ -421,22 +694,70 @@ public class JobManagerServiceImpl implements JobManagerService {
     @LoggingMonitor(description = "Update job: {argument1.getJobName()}")
     public void update(String hash, JobDefinitionDTO jobDefinitionDTO) {
         JobDocument persistenceJobDocument = getJobDocument(hash);
+        String prevContentHash = persistenceJobDocument.getContentHash();
         updateFromJobDefinitionDTO(persistenceJobDocument, jobDefinitionDTO);
-        jobDocumentRepository.save(persistenceJobDocument);
+        persistenceJobDocument.setUpdatedAt(DateTimeUtils.getCurrentEpochTimeInMillisecond());
+        saveJobDocument(persistenceJobDocument);
+
+        // The saved job took a reference to its new content, the previous one is released only once it is saved
+        if (!Objects.equals(prevContentHash, persistenceJobDocument.getContentHash())) {
+            LOGGER.info("Content of job {} is changed, release its previous content", persistenceJobDocument.getJobName());
+            releaseContents(Collections.singletonList(prevContentHash));
+        }
     }
 
+    /**
+     * The content reference is taken before the job is written, it is released again when the job cannot be
+     * written so the content can still be removed once unused
+     */
+    private JobDocument saveJobDocument(JobDocument jobDocument) {
+        String prevContentHash = jobDocument.getContentHash();
+        try {
+            return jobDocumentRepository.save(jobDocument);
+        } catch (RuntimeException exception) {
+            String contentHash = jobDocument.getContentHash();
+            if (!Objects.equals(prevContentHash, contentHash)) {
+                LOGGER.warn("Cannot save job {}, release its content {}", jobDocument.getJobName(), contentHash);
+                releaseContents(Collections.singletonList(contentHash));
+            }
+            throw exception;
+        }
+    }
 
-    private List<JobResultDocument> getJobResultDocuments(Page<JobDocument> jobDocuments) {
+    /**
+     * The job contents stored for the jobs of a failed bulk insert are released, whether the job was written
+     * or not, each of them took a reference before the insert
+     */
+    private void removeInsertedJobs(List<JobDocument> jobDocuments) {
         List<String> jobIds = jobDocuments.stream().map(JobDocument::getHash).toList();
-        return jobResultDocumentRepository.findByJobIdIn(jobIds);
+        mongoTemplate.remove(Query.query(Criteria.where(JobResultDocument.Fields.jobId).in(jobIds)), JobResultDocument.class);
+        mongoTemplate.remove(Query.query(Criteria.where(JobDocument.Fields.hash).in(jobIds)), JobDocument.class);
+        releaseContents(jobDocuments.stream().map(JobDocument::getContentHash).toList());
     }
 
-    private List<JobResultDocument> getJobResultDocuments(List<JobDocument> jobDocuments) {
-        List<String> jobIds = jobDocuments.stream().map(JobDocument::getHash).toList();
-        return jobResultDocumentRepository.findByJobIdIn(jobIds);
+    /**
+     * Release the job contents of the removed or changed jobs, one hash per job. The contents no longer used
+     * by any job are removed together with their compiled templates
+     */
+    private void releaseContents(Collection<String> contentHashes) {
+        jobContentStore.release(contentHashes).forEach(jobTemplateRenderer::evictContent);
+    }
+
+    private List<JobResultDocument> getJobResultDocuments(Page<JobSummary> jobDocuments) {
+        List<String> jobIds = jobDocuments.stream().map(JobSummary::hash).toList();
+        List<JobResultDocument> jobResultDocuments = jobResultDocumentRepository.findByJobIdIn(jobIds);
+        jobResultWriteBehindBuffer.applyPending(jobResultDocuments);
+        return jobResultDocuments;
+    }
+
+    private List<JobResultDocument> getJobResultDocuments(List<JobSummary> jobDocuments) {
+        List<String> jobIds = jobDocuments.stream().map(JobSummary::hash).toList();
+        List<JobResultDocument> jobResultDocuments = jobResultDocumentRepository.findByJobIdIn(jobIds);
+        jobResultWriteBehindBuffer.applyPending(jobResultDocuments);
+        return jobResultDocuments;
     }
 
-    private List<Triplet<String, String, String>> getJobDocumentPairs(List<JobDocument> jobDocuments,
+    private List<Triplet<String, String, String>> getJobDocumentPairs(List<JobSummary> jobDocuments,
                                                                       List<JobResultDocument> jobResultDocuments,
                                                                       Predicate<JobResultDocument> filter) {
         Map<String, JobResultDocument> jobResultMapping = jobResultDocuments.stream()
@@ -445,36 +766,33 @@ public class JobManagerServiceImpl implements JobManagerService {
 
         return jobDocuments.stream()
                 .filter(jobDocument -> {
-                    String jobDocumentHash = jobDocument.getHash();
+                    String jobDocumentHash = jobDocument.hash();
                     return filter.test(jobResultMapping.get(jobDocumentHash));
                 })
                 .map(jobDocument -> {
-                    String jobDocumentHash = jobDocument.getHash();
+                    String jobDocumentHash = jobDocument.hash();
                     JobResultDocument jobResultDocument = jobResultMapping.get(jobDocumentHash);
-                    return Triplet.of(jobDocument.getActionId(), jobDocumentHash, jobResultDocument.getHash());
+                    return Triplet.of(jobDocument.actionId(), jobDocumentHash, jobResultDocument.getHash());
                 })
                 .toList();
     }
 
-    private ImmutableJobResult process(ImmutableJob immutableJob, ImmutableAction immutableAction) {
+    /**
+     * Dry runs may carry any client supplied hash, only persisted jobs use the compiled templates and the
+     * cached configurations
+     */
+    private ImmutableJobResult process(ImmutableJob immutableJob, ImmutableAction immutableAction, boolean isPersistedJob) {
 
         try {
-            @SuppressWarnings("unchecked")
-            CheckedSupplier<Map<String, Object>> jobConfigurationSupplier =
-                    () -> objectMapper.readValue(immutableJob.getConfigurations(), Map.class);
-            @SuppressWarnings("unchecked")
-            CheckedSupplier<Map<String, Object>> actionConfigurationSupplier =
-                    () -> objectMapper.readValue(immutableAction.getConfigurations(), Map.class);
-            HashMap<String, Object> configurationMap = new HashMap<>();
-            configurationMap.put(TEMPLATE_ENGINE_NAME, "freemarker");
-            configurationMap.putAll(actionConfigurationSupplier.get());
-            configurationMap.putAll(jobConfigurationSupplier.get());
+            Map<String, Object> configurationMap = isPersistedJob
+                    ? jobConfigurationCache.getConfigurations(immutableJob, immutableAction, DEFAULT_JOB_CONFIGURATIONS)
+                    : jobConfigurationCache.parseConfigurations(immutableJob, immutableAction, DEFAULT_JOB_CONFIGURATIONS);
 
             String jobName = immutableJob.getJobName();
-            String templateName = String.format("%s-%s", jobName, immutableJob.getJobCategory());
             String templateEngineName = (String) configurationMap.get(TEMPLATE_ENGINE_NAME);
             TemplateEngineEnum templateEngine = TemplateEngineEnum.getTemplateEngineFromName(templateEngineName);
-            String jobContent = templateEngine.process(templateName, immutableJob.getJobContent(), configurationMap);
+            String jobContent = jobTemplateRenderer.render(immutableJob, templateEngineName, templateEngine,
+                    configurationMap, isPersistedJob);
 
             Map<String, Object> jobExecutionContext = new HashMap<>(configurationMap);
             jobExecutionContext.put("templateEngine", templateEngine);
@@ -515,9 +833,9 @@ public class JobManagerServiceImpl implements JobManagerService {
                     }
                     jobResultDocument.setUpdatedAt(currentEpochTimeInMillisecond);
                     jobResultDocument.setJobExecutionStatus(JobExecutionStatus.PROCESSING);
-                    jobResultDocumentRepository.save(jobResultDocument);
+                    jobResultWriteBehindBuffer.submit(jobResultDocument);
 
-                    ImmutableJobResult jobResult = process(immutableJob, immutableAction);
+                    ImmutableJobResult jobResult = process(immutableJob, immutableAction, true);
                     processOutputTargets(immutableJob, jobName, jobResult);
 
                     nextJobStatus = StringUtils.isNotEmpty(jobResult.getException()) ?
@@ -529,6 +847,8 @@ public class JobManagerServiceImpl implements JobManagerService {
                     jobException = exception.getMessage();
                 } finally {
                     updateJobResultDocument(jobResultDocument, nextJobStatus, currentEpochTimeInMillisecond, jobException);
+                    long elapsedTimeInMs = DateTimeUtils.getCurrentEpochTimeInMillisecond() - currentEpochTimeInMillisecond;
+                    jobLatencyStatistics.record(immutableJob.getHash(), immutableJob.getActionId(), elapsedTimeInMs);
                     processJobResultCallback(onJobStatusChange, prevJobStatus, nextJobStatus);
                 }
             } finally {
@@ -539,30 +859,43 @@ public class JobManagerServiceImpl implements JobManagerService {
         }
     }
 
-    private ScheduledFuture<?> processScheduleJob(ImmutableJob jobDocument,
-                                                  String jobResultDocumentHash,
-                                                  ImmutableAction immutableAction,
-                                                  BiConsumer<JobExecutionStatus, JobExecutionStatus> callback) {
+    private TimingWheelScheduler.ScheduledTask processScheduleJob(ImmutableJob jobDocument,
+                                                                  String jobResultDocumentHash,
+                                                                  ImmutableAction immutableAction,
+                                                                  BiConsumer<JobExecutionStatus, JobExecutionStatus> callback) {
         String jobName = jobDocument.getJobName();
         TimeUnit timeUnit = TimeUnit.valueOf(jobDocument.getScheduleUnit());
-        Callable<Void> jobProcessRunnable = () -> {
+        Runnable jobProcessRunnable = () -> {
             // Make sure the job data is up-to-date for each running time
             Optional<JobDocument> jobDocument1 = jobDocumentRepository.findById(jobDocument.getHash());
             ImmutableJob immutableJob = jobDocument1.map(ImmutableJob.class::cast).orElse(jobDocument);
             Optional<JobResultDocument> resultDocumentOptional = jobResultDocumentRepository.findById(jobResultDocumentHash);
             JobResultDocument jobResultDocument = resultDocumentOptional.orElseThrow();
+            // The previous run state may not be written yet
+            jobResultWriteBehindBuffer.applyPending(jobResultDocument);
             processPersistenceJob(immutableJob, jobResultDocument, immutableAction, callback);
-            return null;
         };
 
         long scheduleIntervalInMs = timeUnit.toMillis(jobDocument.getScheduleInterval());
-        TaskEntry taskEntry = new TaskEntry(jobName, ACTION_MANAGER, jobProcessRunnable, 0, scheduleIntervalInMs);
-        ScheduledFuture<?> scheduledFuture = scheduleTaskMgmtService.scheduleFixedRateTask(taskEntry, 1000, TimeUnit.MILLISECONDS);
-        if (Objects.isNull(scheduledFuture)) {
-            LOGGER.error("Reached to maximum number of schedule thread, no more thread to process {}", jobName);
-            return null;
+        Executor jobExecutor = getJobExecutor(jobDocument.getJobCategory());
+        return timingWheelScheduler.scheduleAtFixedRate(jobName, jobProcessRunnable, 0, scheduleIntervalInMs, jobExecutor);
+    }
+
+    private void cancelScheduledJob(String jobHash) {
+        TimingWheelScheduler.ScheduledTask scheduledTask = scheduledJobRegistry.remove(jobHash);
+        if (Objects.nonNull(scheduledTask)) {
+            scheduledTask.cancel();
         }
-        return scheduledFuture;
+    }
+
+    private Executor getJobExecutor(JobCategory jobCategory) {
+        if (jobCategory == JobCategory.CPU) {
+            return cpuTaskMgmtService::execute;
+        }
+        if (virtualThreadJobExecutor.isEnabled()) {
+            return virtualThreadJobExecutor::execute;
+        }
+        return ioTaskMgmtService::execute;
     }
 
     private void processAsync(ImmutableJob immutableJob,
@@ -575,6 +908,11 @@ public class JobManagerServiceImpl implements JobManagerService {
             cpuTaskMgmtService.execute(jobProcessRunnable);
             return;
         }
+        if (virtualThreadJobExecutor.isEnabled()) {
+            LOGGER.info("Using virtual threads to execute {} job", immutableJob.getJobName());
+            virtualThreadJobExecutor.execute(jobProcessRunnable);
+            return;
+        }
         LOGGER.info("Using IO threads to execute {} job", immutableJob.getJobName());
         ioTaskMgmtService.execute(jobProcessRunnable);
     }
@@ -599,7 +937,17 @@ public class JobManagerServiceImpl implements JobManagerService {
         jobResultDocument.setEndedAt(endedAt);
         jobResultDocument.setElapsedTime(endedAt - startedAt);
         jobResultDocument.setFailureNotes(jobResult);
-        jobResultDocumentRepository.save(jobResultDocument);
+        jobResultWriteBehindBuffer.submit(jobResultDocument);
+        jobRunHistoryService.record(JobRunDocument.builder()
+                .jobId(jobResultDocument.getJobId())
+                .actionId(jobResultDocument.getActionId())
+                .jobExecutionStatus(nextJobStatus)
+                .failureNotes(jobResult)
+                .startedAt(startedAt)
+                .endedAt(endedAt)
+                .elapsedTime(endedAt - startedAt)
+                .recordedAt(new Date(endedAt))
+                .build());
     }
 
     private void processOutputTargets(ImmutableJob immutableJob, String jobName, ImmutableJobResult jobResult) {
@@ -4,7 +4,6 @@ import com.hoatv.metric.mgmt.annotations.Metric;
 import com.hoatv.metric.mgmt.annotations.MetricProvider;
 import com.hoatv.metric.mgmt.entities.ComplexValue;
 import com.hoatv.metric.mgmt.services.MetricService;
-import com.hoatv.task.mgmt.services.ScheduleTaskMgmtService;
 import com.hoatv.task.mgmt.services.TaskMgmtServiceV1;
 import lombok.Setter;
 import org.springframework.stereotype.Component;
@@ -25,6 +24,12 @@ public class JobManagerStatistics {
 
     private final AtomicLong numberOfFailureJobs = new AtomicLong(0);
 
+    private final AtomicLong numberOfScriptCacheHits = new AtomicLong(0);
+
+    private final AtomicLong numberOfScriptCacheMisses = new AtomicLong(0);
+
+    private final AtomicLong numberOfScriptCacheEvictions = new AtomicLong(0);
+
     @Setter
     private TaskMgmtServiceV1 ioTaskMgmtService;
 
@@ -35,7 +40,10 @@ public class JobManagerStatistics {
     private TaskMgmtServiceV1 cpuTaskMgmtService;
 
     @Setter
-    private ScheduleTaskMgmtService scheduleTaskMgmtService;
+    private TimingWheelScheduler timingWheelScheduler;
+
+    @Setter
+    private VirtualThreadJobExecutor virtualThreadJobExecutor;
 
     public void setTotalNumberOfJobs(long totalNumberOfJobs) {
         this.totalNumberOfJobs.set(totalNumberOfJobs);
@@ -61,6 +69,18 @@ public class JobManagerStatistics {
         this.numberOfActiveJobs.decrementAndGet();
     }
 
+    public void increaseNumberOfScriptCacheHits() {
+        this.numberOfScriptCacheHits.incrementAndGet();
+    }
+
+    public void increaseNumberOfScriptCacheMisses() {
+        this.numberOfScriptCacheMisses.incrementAndGet();
+    }
+
+    public void increaseNumberOfScriptCacheEvictions() {
+        this.numberOfScriptCacheEvictions.incrementAndGet();
+    }
+
     @Metric(name = JOB_MANAGER_METRIC_NAME_PREFIX)
     public Collection<ComplexValue> getMetricValues() {
         return metricService.getMetrics().values();
@@ -81,14 +101,29 @@ public class JobManagerStatistics {
         return numberOfActiveJobs.get();
     }
 
+    @Metric(name = JOB_MANAGER_METRIC_NAME_PREFIX + "-number-of-script-cache-hits")
+    public long getNumberOfScriptCacheHits() {
+        return numberOfScriptCacheHits.get();
+    }
+
+    @Metric(name = JOB_MANAGER_METRIC_NAME_PREFIX + "-number-of-script-cache-misses")
+    public long getNumberOfScriptCacheMisses() {
+        return numberOfScriptCacheMisses.get();
+    }
+
+    @Metric(name = JOB_MANAGER_METRIC_NAME_PREFIX + "-number-of-script-cache-evictions")
+    public long getNumberOfScriptCacheEvictions() {
+        return numberOfScriptCacheEvictions.get();
+    }
+
     @Metric(name = JOB_MANAGER_METRIC_NAME_PREFIX + "-number-of-active-schedule-jobs")
     public long getNumberOfScheduleJobs() {
-        return scheduleTaskMgmtService.getActiveTasks();
+        return timingWheelScheduler.getNumberOfScheduledTasks();
     }
 
     @Metric(name = JOB_MANAGER_METRIC_NAME_PREFIX + "-number-of-available-schedule-jobs")
     public long getNumberOfAvailableScheduleJobs() {
-        return scheduleTaskMgmtService.getConcurrentAccountLocks().availablePermits();
+        return timingWheelScheduler.getNumberOfAvailableDispatches();
     }
 
     @Metric(name = JOB_MANAGER_METRIC_NAME_PREFIX + "-number-of-available-cpu-jobs")
@@ -98,6 +133,9 @@ public class JobManagerStatistics {
 
     @Metric(name = JOB_MANAGER_METRIC_NAME_PREFIX + "-number-of-available-io-jobs")
     public long getNumberOfAvailableIOJobs() {
+        if (virtualThreadJobExecutor != null && virtualThreadJobExecutor.isEnabled()) {
+            return virtualThreadJobExecutor.getAvailablePermits();
+        }
         return ioTaskMgmtService.getConcurrentAccountLocks().availablePermits();
     }
 
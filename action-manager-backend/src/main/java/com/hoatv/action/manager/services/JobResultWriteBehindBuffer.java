@@ -0,0 +1,225 @@
+package com.hoatv.action.manager.services;
+
+import com.hoatv.action.manager.collections.JobExecutionStatus;
+import com.hoatv.action.manager.collections.JobResultDocument;
+import com.hoatv.action.manager.collections.JobState;
+import com.hoatv.fwk.common.ultilities.DateTimeUtils;
+import com.hoatv.metric.mgmt.annotations.Metric;
+import com.hoatv.metric.mgmt.annotations.MetricProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind buffer of job result status updates. Only the latest state of a job result is kept, so the
+ * PROCESSING state of a run finished within the same flush interval is never written. Pending states are
+ * written with unordered bulk $set updates at every flush interval and on shutdown.
+ * <p>
+ * Reads of a single job result apply the pending state, the queries matching on the status flush the buffer
+ * first. When the process stops without a shutdown, the states submitted within the last flush interval are
+ * lost and the job results keep their previously written state until their jobs run again.
+ */
+@Component
+@MetricProvider(application = JobManagerServiceImpl.ACTION_MANAGER, category = "job-result-write-behind-stats-data")
+public class JobResultWriteBehindBuffer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobResultWriteBehindBuffer.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final boolean writeBehindEnabled;
+
+    private final long flushIntervalInMs;
+
+    private final Map<String, PendingJobResult> pendingJobResults = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flushExecutor;
+
+    private volatile boolean isClosed;
+
+    @Autowired
+    public JobResultWriteBehindBuffer(
+            MongoTemplate mongoTemplate,
+            @Value("${action.manager.job-results.write-behind.enabled:true}") boolean writeBehindEnabled,
+            @Value("${action.manager.job-results.write-behind.flush-interval-ms:500}") long flushIntervalInMs
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.writeBehindEnabled = writeBehindEnabled;
+        this.flushIntervalInMs = flushIntervalInMs;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!writeBehindEnabled) {
+            return;
+        }
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("job-result-write-behind").daemon(true).factory());
+        flushExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (Exception exception) {
+                LOGGER.error("An exception occurred while writing pending job results", exception);
+            }
+        }, flushIntervalInMs, flushIntervalInMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue the current state of the job result, it replaces the pending state of the same job result
+     */
+    public void submit(JobResultDocument jobResultDocument) {
+        PendingJobResult pendingJobResult = PendingJobResult.from(jobResultDocument,
+                DateTimeUtils.getCurrentEpochTimeInMillisecond());
+        // A job finishing after the final flush of the shutdown is written right away
+        if (!writeBehindEnabled || isClosed) {
+            mongoTemplate.updateFirst(toQuery(jobResultDocument.getHash()), pendingJobResult.toUpdate(),
+                    JobResultDocument.class);
+            return;
+        }
+        // Keep the time of the oldest unwritten state so the lag covers the whole coalesced history
+        pendingJobResults.merge(jobResultDocument.getHash(), pendingJobResult,
+                (prevPending, nextPending) -> nextPending.withSubmittedAt(prevPending.submittedAt()));
+    }
+
+    /**
+     * Apply the unwritten state on a job result read from the database
+     */
+    public void applyPending(JobResultDocument jobResultDocument) {
+        if (Objects.isNull(jobResultDocument)) {
+            return;
+        }
+        PendingJobResult pendingJobResult = pendingJobResults.get(jobResultDocument.getHash());
+        if (Objects.nonNull(pendingJobResult)) {
+            pendingJobResult.applyTo(jobResultDocument);
+        }
+    }
+
+    public void applyPending(Collection<JobResultDocument> jobResultDocuments) {
+        if (!pendingJobResults.isEmpty()) {
+            jobResultDocuments.forEach(this::applyPending);
+        }
+    }
+
+    public void discard(String jobResultHash) {
+        pendingJobResults.remove(jobResultHash);
+    }
+
+    public synchronized void flush() {
+        if (pendingJobResults.isEmpty()) {
+            return;
+        }
+        Map<String, PendingJobResult> flushingJobResults = new HashMap<>(pendingJobResults);
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobResultDocument.class);
+        flushingJobResults.forEach((hash, pendingJobResult) ->
+                bulkOperations.updateOne(toQuery(hash), pendingJobResult.toUpdate()));
+        bulkOperations.execute();
+        // States submitted while writing stay pending for the next flush
+        flushingJobResults.forEach((hash, pendingJobResult) -> pendingJobResults.remove(hash, pendingJobResult));
+        LOGGER.debug("Wrote {} pending job results", flushingJobResults.size());
+    }
+
+    @Metric(name = "action-manager-number-of-pending-job-results")
+    public long getNumberOfPendingJobResults() {
+        return pendingJobResults.size();
+    }
+
+    @Metric(name = "action-manager-job-result-write-behind-lag-ms")
+    public long getWriteBehindLagInMs() {
+        long oldestSubmittedAt = pendingJobResults.values().stream()
+                .mapToLong(PendingJobResult::submittedAt)
+                .min()
+                .orElse(0);
+        return oldestSubmittedAt == 0 ? 0 : DateTimeUtils.getCurrentEpochTimeInMillisecond() - oldestSubmittedAt;
+    }
+
+    /**
+     * Final flush of the pending states. The buffer depends on the MongoTemplate, so it is destroyed before the
+     * Mongo client is closed, and after the services submitting to it and checkpointing the statistics.
+     */
+    @PreDestroy
+    public void destroy() {
+        if (Objects.isNull(flushExecutor)) {
+            return;
+        }
+        isClosed = true;
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(flushIntervalInMs, TimeUnit.MILLISECONDS);
+            flush();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while writing the pending job results on shutdown");
+        } catch (Exception exception) {
+            LOGGER.warn("Cannot write the pending job results on shutdown", exception);
+        }
+    }
+
+    private static Query toQuery(String jobResultHash) {
+        return Query.query(Criteria.where(JobResultDocument.Fields.hash).is(jobResultHash));
+    }
+
+    private record PendingJobResult(JobState jobState,
+                                    JobExecutionStatus jobExecutionStatus,
+                                    String failureNotes,
+                                    long startedAt,
+                                    long updatedAt,
+                                    long endedAt,
+                                    long elapsedTime,
+                                    long submittedAt) {
+
+        private static PendingJobResult from(JobResultDocument jobResultDocument, long submittedAt) {
+            return new PendingJobResult(jobResultDocument.getJobState(),
+                    jobResultDocument.getJobExecutionStatus(),
+                    jobResultDocument.getFailureNotes(),
+                    jobResultDocument.getStartedAt(),
+                    jobResultDocument.getUpdatedAt(),
+                    jobResultDocument.getEndedAt(),
+                    jobResultDocument.getElapsedTime(),
+                    submittedAt);
+        }
+
+        private PendingJobResult withSubmittedAt(long firstSubmittedAt) {
+            return new PendingJobResult(jobState, jobExecutionStatus, failureNotes, startedAt, updatedAt,
+                    endedAt, elapsedTime, firstSubmittedAt);
+        }
+
+        private Update toUpdate() {
+            return new Update()
+                    .set(JobResultDocument.Fields.jobState, jobState)
+                    .set(JobResultDocument.Fields.jobExecutionStatus, jobExecutionStatus)
+                    .set(JobResultDocument.Fields.failureNotes, failureNotes)
+                    .set(JobResultDocument.Fields.startedAt, startedAt)
+                    .set(JobResultDocument.Fields.updatedAt, updatedAt)
+                    .set(JobResultDocument.Fields.endedAt, endedAt)
+                    .set(JobResultDocument.Fields.elapsedTime, elapsedTime);
+        }
+
+        private void applyTo(JobResultDocument jobResultDocument) {
+            jobResultDocument.setJobState(jobState);
+            jobResultDocument.setJobExecutionStatus(jobExecutionStatus);
+            jobResultDocument.setFailureNotes(failureNotes);
+            jobResultDocument.setStartedAt(startedAt);
+            jobResultDocument.setUpdatedAt(updatedAt);
+            jobResultDocument.setEndedAt(endedAt);
+            jobResultDocument.setElapsedTime(elapsedTime);
+        }
+    }
+}
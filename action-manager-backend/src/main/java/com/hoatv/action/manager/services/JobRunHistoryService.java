@@ -0,0 +1,172 @@
+package com.hoatv.action.manager.services;
+
+import com.hoatv.action.manager.collections.JobRunDocument;
+import com.hoatv.action.manager.repositories.JobRunDocumentRepository;
+import com.hoatv.metric.mgmt.annotations.Metric;
+import com.hoatv.metric.mgmt.annotations.MetricProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Append-only history of job runs. Runs are buffered in memory and written with unordered bulk inserts
+ * by a background thread, a TTL index removes the runs older than the retention.
+ */
+@Service
+@MetricProvider(application = JobManagerServiceImpl.ACTION_MANAGER, category = "job-run-history-stats-data")
+public class JobRunHistoryService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobRunHistoryService.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final JobRunDocumentRepository jobRunDocumentRepository;
+
+    private final boolean historyEnabled;
+
+    private final Duration retention;
+
+    private final long flushIntervalInMs;
+
+    private final int maxBufferSize;
+
+    private final Queue<JobRunDocument> pendingRuns = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger numberOfPendingRuns = new AtomicInteger();
+
+    private final LongAdder numberOfDroppedRuns = new LongAdder();
+
+    private ScheduledExecutorService flushExecutor;
+
+    @Autowired
+    public JobRunHistoryService(
+            MongoTemplate mongoTemplate,
+            JobRunDocumentRepository jobRunDocumentRepository,
+            @Value("${action.manager.job-runs.enabled:true}") boolean historyEnabled,
+            @Value("${action.manager.job-runs.retention-days:14}") long retentionInDays,
+            @Value("${action.manager.job-runs.flush-interval-ms:1000}") long flushIntervalInMs,
+            @Value("${action.manager.job-runs.max-buffer-size:10000}") int maxBufferSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.jobRunDocumentRepository = jobRunDocumentRepository;
+        this.historyEnabled = historyEnabled;
+        this.retention = Duration.ofDays(retentionInDays);
+        this.flushIntervalInMs = flushIntervalInMs;
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!historyEnabled) {
+            return;
+        }
+        IndexOperations indexOperations = mongoTemplate.indexOps(JobRunDocument.class);
+        indexOperations.ensureIndex(new Index()
+                .on(JobRunDocument.Fields.recordedAt, Sort.Direction.ASC)
+                .expire(retention)
+                .named("job-runs-ttl"));
+        indexOperations.ensureIndex(new Index()
+                .on(JobRunDocument.Fields.jobId, Sort.Direction.ASC)
+                .on(JobRunDocument.Fields.startedAt, Sort.Direction.DESC)
+                .named("job-runs-job-id-started-at"));
+
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("job-run-history-flush").daemon(true).factory());
+        flushExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (Exception exception) {
+                LOGGER.error("An exception occurred while writing job runs", exception);
+            }
+        }, flushIntervalInMs, flushIntervalInMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Buffer a finished run, the run is dropped when the buffer is full so job threads never wait on the write
+     */
+    public void record(JobRunDocument jobRunDocument) {
+        if (!historyEnabled) {
+            return;
+        }
+        if (numberOfPendingRuns.incrementAndGet() > maxBufferSize) {
+            numberOfPendingRuns.decrementAndGet();
+            numberOfDroppedRuns.increment();
+            return;
+        }
+        pendingRuns.offer(jobRunDocument);
+    }
+
+    public void flush() {
+        List<JobRunDocument> jobRuns = new ArrayList<>();
+        JobRunDocument jobRun;
+        while ((jobRun = pendingRuns.poll()) != null) {
+            jobRuns.add(jobRun);
+        }
+        if (jobRuns.isEmpty()) {
+            return;
+        }
+        numberOfPendingRuns.addAndGet(-jobRuns.size());
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobRunDocument.class);
+        bulkOperations.insert(jobRuns);
+        bulkOperations.execute();
+        LOGGER.debug("Wrote {} job runs", jobRuns.size());
+    }
+
+    public Page<JobRunDocument> getJobRuns(String jobId, Pageable pageable) {
+        return jobRunDocumentRepository.findByJobId(jobId, pageable);
+    }
+
+    public void deleteByJobId(String jobId) {
+        jobRunDocumentRepository.deleteByJobId(jobId);
+    }
+
+    public void deleteByActionId(String actionId) {
+        jobRunDocumentRepository.deleteByActionId(actionId);
+    }
+
+    @Metric(name = "action-manager-number-of-pending-job-runs")
+    public long getNumberOfPendingRuns() {
+        return numberOfPendingRuns.get();
+    }
+
+    @Metric(name = "action-manager-number-of-dropped-job-runs")
+    public long getNumberOfDroppedRuns() {
+        return numberOfDroppedRuns.sum();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (Objects.isNull(flushExecutor)) {
+            return;
+        }
+        flushExecutor.shutdownNow();
+        try {
+            flush();
+        } catch (Exception exception) {
+            LOGGER.warn("Cannot write the pending job runs on shutdown", exception);
+        }
+    }
+}
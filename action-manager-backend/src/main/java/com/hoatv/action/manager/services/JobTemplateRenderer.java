@@ -0,0 +1,103 @@
+package com.hoatv.action.manager.services;
+
+import com.hoatv.action.manager.api.ImmutableJob;
+import com.hoatv.fwk.common.exceptions.InvalidArgumentException;
+import com.hoatv.fwk.common.services.CheckedSupplier;
+import com.hoatv.fwk.common.services.TemplateEngineEnum;
+import com.hoatv.fwk.common.ultilities.ObjectUtils;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateExceptionHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Render job contents, FreeMarker templates of persisted jobs are parsed once per content hash. The jobs
+ * referencing the same stored content share one compiled template.
+ */
+@Component
+public class JobTemplateRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobTemplateRenderer.class);
+
+    public static final String FREEMARKER_TEMPLATE_ENGINE = "freemarker";
+
+    public static final int MAX_COMPILED_TEMPLATES = 1024;
+
+    private final Configuration templateConfiguration = newTemplateConfiguration();
+
+    private final Map<String, Template> compiledTemplates = Collections.synchronizedMap(
+            new LinkedHashMap<>(MAX_COMPILED_TEMPLATES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+                    return size() > MAX_COMPILED_TEMPLATES;
+                }
+            });
+
+    /**
+     * Dry runs are rendered by the template engine directly, they never read or fill the compiled templates
+     */
+    public String render(ImmutableJob immutableJob,
+                         String templateEngineName,
+                         TemplateEngineEnum templateEngine,
+                         Map<String, Object> configurationMap,
+                         boolean isPersistedJob) {
+        String jobContent = immutableJob.getJobContent();
+        ObjectUtils.checkThenThrow(Objects.isNull(jobContent), () -> new InvalidArgumentException(
+                String.format("Job %s has no content to render", immutableJob.getJobName())));
+        if (!isPersistedJob || !FREEMARKER_TEMPLATE_ENGINE.equalsIgnoreCase(templateEngineName)) {
+            return templateEngine.process(getTemplateName(immutableJob), jobContent, configurationMap);
+        }
+
+        // A stored content never changes under its hash, inline contents are keyed on the hash of the template itself
+        String templateKey = Optional.ofNullable(immutableJob.getContentHash())
+                .orElseGet(() -> ScriptEngineService.getContentHash(jobContent));
+        Template template = compiledTemplates.get(templateKey);
+        if (Objects.isNull(template)) {
+            LOGGER.debug("Compile template {} of job {}", templateKey, immutableJob.getJobName());
+            CheckedSupplier<Template> templateSupplier = () -> new Template("job-content-" + templateKey,
+                    new StringReader(jobContent), templateConfiguration);
+            template = templateSupplier.get();
+            compiledTemplates.put(templateKey, template);
+        }
+
+        Template compiledTemplate = template;
+        CheckedSupplier<String> renderSupplier = () -> {
+            StringWriter jobContentWriter = new StringWriter();
+            compiledTemplate.process(configurationMap, jobContentWriter);
+            return jobContentWriter.toString();
+        };
+        return renderSupplier.get();
+    }
+
+    public void evictContent(String contentHash) {
+        compiledTemplates.remove(contentHash);
+    }
+
+    /**
+     * Same version and settings as the FreeMarker engine of TemplateEngineEnum, a cached render must give the
+     * output of a render through the engine. Both have to be changed together.
+     */
+    private static Configuration newTemplateConfiguration() {
+        Configuration configuration = new Configuration(Configuration.VERSION_2_3_31);
+        configuration.setDefaultEncoding("UTF-8");
+        configuration.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+        configuration.setLogTemplateExceptions(false);
+        configuration.setWrapUncheckedExceptions(true);
+        configuration.setFallbackOnNullLoopVariable(false);
+        return configuration;
+    }
+
+    private static String getTemplateName(ImmutableJob immutableJob) {
+        return String.format("%s-%s", immutableJob.getJobName(), immutableJob.getJobCategory());
+    }
+}
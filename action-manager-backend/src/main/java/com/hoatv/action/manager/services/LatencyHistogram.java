@@ -0,0 +1,142 @@
+package com.hoatv.action.manager.services;
+
+import com.hoatv.fwk.common.ultilities.DateTimeUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Log-linear latency histogram in milliseconds kept over a ring of time windows. Each power of two
+ * range is split into {@value #SUB_BUCKET_COUNT} buckets so the reported values are within ~6% of the
+ * recorded ones. Recording does not allocate.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int MAX_VALUE_BITS = 32;
+
+    private static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final long windowSizeInMs;
+
+    private final Window[] windows;
+
+    public LatencyHistogram(long windowSizeInMs, int numberOfWindows) {
+        this.windowSizeInMs = windowSizeInMs;
+        this.windows = new Window[numberOfWindows];
+        for (int index = 0; index < numberOfWindows; index++) {
+            windows[index] = new Window();
+        }
+    }
+
+    public void record(long latencyInMs) {
+        long value = Math.max(latencyInMs, 0);
+        long windowId = DateTimeUtils.getCurrentEpochTimeInMillisecond() / windowSizeInMs;
+        Window window = windows[(int) (windowId % windows.length)];
+        window.rollOver(windowId);
+        window.counts.incrementAndGet(getBucketIndex(value));
+        window.totalCount.incrementAndGet();
+        window.maxValue.accumulateAndGet(value, Math::max);
+    }
+
+    public long getTotalCount() {
+        long oldestWindowId = getOldestWindowId();
+        long totalCount = 0;
+        for (Window window : windows) {
+            if (window.windowId.get() >= oldestWindowId) {
+                totalCount += window.totalCount.get();
+            }
+        }
+        return totalCount;
+    }
+
+    public long getMaxValue() {
+        long oldestWindowId = getOldestWindowId();
+        long maxValue = 0;
+        for (Window window : windows) {
+            if (window.windowId.get() >= oldestWindowId) {
+                maxValue = Math.max(maxValue, window.maxValue.get());
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * @return the upper bound of the bucket holding the given percentile over the live windows
+     */
+    public long getValueAtPercentile(double percentile) {
+        long totalCount = getTotalCount();
+        if (totalCount == 0) {
+            return 0;
+        }
+        long oldestWindowId = getOldestWindowId();
+        long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long accumulatedCount = 0;
+        for (int bucketIndex = 0; bucketIndex < BUCKET_COUNT; bucketIndex++) {
+            for (Window window : windows) {
+                if (window.windowId.get() >= oldestWindowId) {
+                    accumulatedCount += window.counts.get(bucketIndex);
+                }
+            }
+            if (accumulatedCount >= countAtPercentile) {
+                return Math.min(getBucketUpperBound(bucketIndex), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    private long getOldestWindowId() {
+        long currentWindowId = DateTimeUtils.getCurrentEpochTimeInMillisecond() / windowSizeInMs;
+        return currentWindowId - windows.length + 1;
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int mostSignificantBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = Math.min(mostSignificantBit, MAX_VALUE_BITS) - SUB_BUCKET_BITS;
+        int subBucketIndex = (int) Math.min((value >>> shift) - SUB_BUCKET_COUNT, SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucketIndex;
+    }
+
+    private static long getBucketUpperBound(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long subBucketIndex = bucketIndex % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucketIndex + 1) << shift) - 1;
+    }
+
+    private static final class Window {
+
+        private final AtomicLong windowId = new AtomicLong(-1);
+
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(BUCKET_COUNT);
+
+        private final AtomicLong totalCount = new AtomicLong(0);
+
+        private final AtomicLong maxValue = new AtomicLong(0);
+
+        private void rollOver(long currentWindowId) {
+            if (windowId.get() == currentWindowId) {
+                return;
+            }
+            synchronized (this) {
+                if (windowId.get() == currentWindowId) {
+                    return;
+                }
+                for (int index = 0; index < BUCKET_COUNT; index++) {
+                    counts.set(index, 0);
+                }
+                totalCount.set(0);
+                maxValue.set(0);
+                windowId.set(currentWindowId);
+            }
+        }
+    }
+}
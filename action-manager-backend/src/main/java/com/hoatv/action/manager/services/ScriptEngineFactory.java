@@ -4,6 +4,7 @@ import com.hoatv.action.manager.api.ScriptingEngine;
 import com.hoatv.fwk.common.ultilities.ObjectUtils;
 import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 
 import javax.script.ScriptEngine;
@@ -15,8 +16,6 @@ public enum ScriptEngineFactory implements ScriptingEngine {
 
     GRAAL_JS {
         public ScriptEngine getScriptEngine() {
-            System.setProperty("polyglot.engine.WarnInterpreterOnly", "false");
-
             // Init script engine context builder
             Map<String, String> options = new HashMap<>();
             options.put("js.nashorn-compat", "true");
@@ -27,9 +26,20 @@ public enum ScriptEngineFactory implements ScriptingEngine {
                     .allowHostClassLookup(s -> true)
                     .options(options);
 
-            ScriptEngine scriptEngine = GraalJSScriptEngine.create(null, scripEngineContextBuilder);
+            // All contexts are bound to the same engine so parsed and compiled code is shared between them
+            ScriptEngine scriptEngine = GraalJSScriptEngine.create(SharedEngineHolder.ENGINE, scripEngineContextBuilder);
             ObjectUtils.checkThenThrow(Objects::isNull, scriptEngine, "Cannot init Script Engine");
             return scriptEngine;
         }
+    };
+
+    private static final class SharedEngineHolder {
+
+        private static final Engine ENGINE = Engine.newBuilder()
+                .option("engine.WarnInterpreterOnly", "false")
+                .build();
+
+        private SharedEngineHolder() {
+        }
     }
 }
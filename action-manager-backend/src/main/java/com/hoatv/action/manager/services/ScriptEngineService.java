@@ -6,6 +6,9 @@ import com.hoatv.fwk.common.services.CheckedSupplier;
 import com.hoatv.fwk.common.services.HttpClientService;
 import com.hoatv.system.health.metrics.MethodStatisticCollector;
 import com.hoatv.task.mgmt.services.TaskFactory;
+import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +16,14 @@ import org.springframework.stereotype.Service;
 
 import javax.script.Invocable;
 import javax.script.ScriptEngine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -20,44 +31,180 @@ public class ScriptEngineService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScriptEngineService.class);
 
+    public static final int MAX_CACHED_SCRIPT_SOURCES = 1024;
+
     private final MethodStatisticCollector methodStatisticCollector;
 
+    private final JobManagerStatistics jobManagerStatistics;
+
+    private final Map<String, Source> scriptSourceCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(MAX_CACHED_SCRIPT_SOURCES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Source> eldest) {
+                    boolean isEvicted = size() > MAX_CACHED_SCRIPT_SOURCES;
+                    if (isEvicted) {
+                        jobManagerStatistics.increaseNumberOfScriptCacheEvictions();
+                    }
+                    return isEvicted;
+                }
+            });
+
     @Autowired
-    public ScriptEngineService(MethodStatisticCollector methodStatisticCollector) {
+    public ScriptEngineService(MethodStatisticCollector methodStatisticCollector,
+                               JobManagerStatistics jobManagerStatistics) {
         this.methodStatisticCollector = methodStatisticCollector;
+        this.jobManagerStatistics = jobManagerStatistics;
     }
 
     public <T> T execute(String scriptContent, Map<String, Object> executionContext) {
         return execute(JobLauncher.class, scriptContent, executionContext);
     }
 
+    /**
+     * Every execution runs in a fresh context which is closed afterwards, so top-level declarations and globals
+     * never leak into another run. The contexts share one engine, which keeps the compiled code of the sources.
+     */
     @SuppressWarnings("unchecked")
     public <T> T execute(Class<? extends Launcher> klass, String scriptContent,
                          Map<String, Object> executionContext) {
         ScriptEngine scriptEngine = ScriptEngineFactory.GRAAL_JS.getScriptEngine();
+        try {
+            scriptEngine.put("httpClientService", HttpClientService.INSTANCE);
+            scriptEngine.put("taskFactory", TaskFactory.INSTANCE);
+            scriptEngine.put("methodStatisticCollector", methodStatisticCollector);
+            scriptEngine.put("LOGGER", LOGGER);
 
-        scriptEngine.put("httpClientService", HttpClientService.INSTANCE);
-        scriptEngine.put("taskFactory", TaskFactory.INSTANCE);
-        scriptEngine.put("methodStatisticCollector", methodStatisticCollector);
-        scriptEngine.put("LOGGER", LOGGER);
+            LOGGER.info("Putting execution context into script engine: {}", executionContext);
+            executionContext.forEach(scriptEngine::put);
 
-        LOGGER.info("Putting execution context into script engine: {}", executionContext);
-        executionContext.forEach(scriptEngine::put);
+            LOGGER.debug("Eval the script content {}", scriptContent);
+            CheckedSupplier<Object> evalObjectSupplier = () -> {
+                if (scriptEngine instanceof GraalJSScriptEngine graalJSScriptEngine) {
+                    return graalJSScriptEngine.getPolyglotContext().eval(getScriptSource(scriptContent));
+                }
+                return scriptEngine.eval(scriptContent);
+            };
+            evalObjectSupplier.get();
 
-        LOGGER.debug("Eval the script content {}", scriptContent);
-        CheckedSupplier<Object> evalObjectSupplier = () -> scriptEngine.eval(scriptContent);
-        evalObjectSupplier.get();
+            Invocable invocable = (Invocable) scriptEngine;
+            Launcher launcher = invocable.getInterface(klass);
 
-        Invocable invocable = (Invocable) scriptEngine;
-        Launcher launcher = invocable.getInterface(klass);
+            Map<String, String> preExecuteParams = launcher.preExecute();
+            Object executed = null;
+            try {
+                executed = launcher.execute(preExecuteParams);
+            } finally {
+                executed = launcher.postExecute(executed, preExecuteParams);
+            }
+            return (T) detachFromScriptEngine(executed);
+        } finally {
+            closeScriptEngine(scriptEngine);
+        }
+    }
 
-        Map<String, String> preExecuteParams = launcher.preExecute();
-        Object executed = null;
+    /**
+     * Reuse the parsed source of identical rendered scripts, the shared engine keeps the code
+     * compiled for a source object so repeated runs skip parsing.
+     */
+    private Source getScriptSource(String scriptContent) {
+        String scriptContentHash = getContentHash(scriptContent);
+        Source scriptSource = scriptSourceCache.get(scriptContentHash);
+        if (scriptSource != null) {
+            jobManagerStatistics.increaseNumberOfScriptCacheHits();
+            return scriptSource;
+        }
+        jobManagerStatistics.increaseNumberOfScriptCacheMisses();
+        Source newScriptSource = Source.newBuilder("js", scriptContent, "job-" + scriptContentHash + ".js")
+                .cached(true)
+                .buildLiteral();
+        scriptSourceCache.put(scriptContentHash, newScriptSource);
+        return newScriptSource;
+    }
+
+    static String getContentHash(String content) {
         try {
-            executed = launcher.execute(preExecuteParams);
-        } finally {
-            executed = launcher.postExecute(executed, preExecuteParams);
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not supported", exception);
+        }
+    }
+
+    private static void closeScriptEngine(ScriptEngine scriptEngine) {
+        if (scriptEngine instanceof AutoCloseable closeableScriptEngine) {
+            try {
+                closeableScriptEngine.close();
+            } catch (Exception exception) {
+                LOGGER.warn("Cannot close script engine", exception);
+            }
+        }
+    }
+
+    /**
+     * Job results may hold values that still live in the script context, they must be copied
+     * before the context is closed.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object detachFromScriptEngine(Object executed) {
+        if (executed instanceof JobResultDict jobResultDict && jobResultDict.getData() != null) {
+            return new JobResultDict((Map<String, String>) detachValue(jobResultDict.getData()), jobResultDict.getException());
+        }
+        if (executed instanceof JobResult jobResult && jobResult.getData() != null) {
+            return new JobResult(String.valueOf(jobResult.getData()), jobResult.getException());
+        }
+        return executed;
+    }
+
+    /**
+     * Nested maps, lists and polyglot values are copied too, a script object reached from a copied map would
+     * otherwise throw on access once its context is closed
+     */
+    private static Object detachValue(Object value) {
+        if (value instanceof Value polyglotValue) {
+            return detachPolyglotValue(polyglotValue);
+        }
+        if (value instanceof Map<?, ?> mapValue) {
+            Map<Object, Object> mapCopy = new LinkedHashMap<>();
+            mapValue.forEach((key, nestedValue) -> mapCopy.put(detachValue(key), detachValue(nestedValue)));
+            return mapCopy;
+        }
+        if (value instanceof List<?> listValue) {
+            List<Object> listCopy = new ArrayList<>(listValue.size());
+            listValue.forEach(nestedValue -> listCopy.add(detachValue(nestedValue)));
+            return listCopy;
+        }
+        return value;
+    }
+
+    private static Object detachPolyglotValue(Value polyglotValue) {
+        if (polyglotValue.isNull()) {
+            return null;
+        }
+        if (polyglotValue.isHostObject()) {
+            return detachValue(polyglotValue.asHostObject());
+        }
+        if (polyglotValue.isString()) {
+            return polyglotValue.asString();
+        }
+        if (polyglotValue.isBoolean()) {
+            return polyglotValue.asBoolean();
+        }
+        if (polyglotValue.isNumber()) {
+            return polyglotValue.fitsInLong() ? (Object) polyglotValue.asLong() : (Object) polyglotValue.asDouble();
+        }
+        if (polyglotValue.hasArrayElements()) {
+            List<Object> listCopy = new ArrayList<>();
+            for (long index = 0; index < polyglotValue.getArraySize(); index++) {
+                listCopy.add(detachPolyglotValue(polyglotValue.getArrayElement(index)));
+            }
+            return listCopy;
+        }
+        if (polyglotValue.hasMembers()) {
+            Map<String, Object> mapCopy = new LinkedHashMap<>();
+            polyglotValue.getMemberKeys().forEach(key -> mapCopy.put(key, detachPolyglotValue(polyglotValue.getMember(key))));
+            return mapCopy;
         }
-        return (T) executed;
+        return polyglotValue.toString();
     }
 }
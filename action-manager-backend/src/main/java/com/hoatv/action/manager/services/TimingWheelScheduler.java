@@ -0,0 +1,331 @@
+package com.hoatv.action.manager.services;
+
+import com.hoatv.fwk.common.ultilities.DateTimeUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for fixed-rate jobs. A single tick thread advances the wheels and every fire is
+ * handed over to the job executors on its own virtual thread, so a saturated executor never stalls the other
+ * schedules. At most MAX_PENDING_DISPATCHES fires wait for an executor, the next ones are skipped.
+ */
+@Component
+public class TimingWheelScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelScheduler.class);
+
+    public static final long TICK_MILLIS = 100;
+
+    public static final int WHEEL_SIZE = 64;
+
+    public static final int MAX_PENDING_DISPATCHES = 100;
+
+    private final DelayQueue<TimerBucket> delayQueue = new DelayQueue<>();
+
+    private final ReentrantReadWriteLock wheelLock = new ReentrantReadWriteLock();
+
+    private final AtomicLong numberOfScheduledTasks = new AtomicLong(0);
+
+    private final Semaphore dispatchPermits = new Semaphore(MAX_PENDING_DISPATCHES);
+
+    private final ExecutorService dispatcher = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("timing-wheel-dispatcher-", 0).factory());
+
+    private final TimingWheel timingWheel = new TimingWheel(TICK_MILLIS, DateTimeUtils.getCurrentEpochTimeInMillisecond());
+
+    private volatile boolean running;
+
+    private Thread tickThread;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        tickThread = Thread.ofPlatform().name("timing-wheel-ticker").daemon(true).start(this::tick);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (tickThread != null) {
+            tickThread.interrupt();
+            tickThread.join(JobManagerServiceImpl.MAX_AWAIT_TERMINATION_MILLIS);
+        }
+        dispatcher.shutdownNow();
+    }
+
+    public ScheduledTask scheduleAtFixedRate(String name, Runnable runnable, long initialDelayInMs,
+                                             long periodInMs, Executor executor) {
+        ScheduledTask scheduledTask = new ScheduledTask(name, runnable, Math.max(periodInMs, TICK_MILLIS), executor);
+        scheduledTask.expirationMs = DateTimeUtils.getCurrentEpochTimeInMillisecond() + initialDelayInMs;
+        numberOfScheduledTasks.incrementAndGet();
+        wheelLock.readLock().lock();
+        try {
+            addOrFire(scheduledTask);
+        } finally {
+            wheelLock.readLock().unlock();
+        }
+        return scheduledTask;
+    }
+
+    public long getNumberOfScheduledTasks() {
+        return numberOfScheduledTasks.get();
+    }
+
+    public long getNumberOfAvailableDispatches() {
+        return dispatchPermits.availablePermits();
+    }
+
+    private void tick() {
+        while (running) {
+            try {
+                TimerBucket bucket = delayQueue.poll(TICK_MILLIS, TimeUnit.MILLISECONDS);
+                if (bucket == null) {
+                    continue;
+                }
+                wheelLock.writeLock().lock();
+                try {
+                    while (bucket != null) {
+                        timingWheel.advanceClock(bucket.getExpirationMs());
+                        bucket.flush(this::addOrFire);
+                        bucket = delayQueue.poll();
+                    }
+                } finally {
+                    wheelLock.writeLock().unlock();
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception exception) {
+                LOGGER.error("An exception occurred while advancing the timing wheel", exception);
+            }
+        }
+    }
+
+    private void addOrFire(ScheduledTask scheduledTask) {
+        // A due task is handed over, then its next fire is put back on the wheel
+        while (!scheduledTask.isCancelled() && !timingWheel.add(scheduledTask)) {
+            dispatch(scheduledTask);
+            long now = DateTimeUtils.getCurrentEpochTimeInMillisecond();
+            long nextExpirationMs = scheduledTask.expirationMs + scheduledTask.periodInMs;
+            scheduledTask.expirationMs = nextExpirationMs > now ? nextExpirationMs : now + scheduledTask.periodInMs;
+        }
+    }
+
+    private void dispatch(ScheduledTask scheduledTask) {
+        if (scheduledTask.isCancelled()) {
+            return;
+        }
+        if (!scheduledTask.running.compareAndSet(false, true)) {
+            LOGGER.info("Skip the schedule task {} because the previous run is still running", scheduledTask.getName());
+            return;
+        }
+        if (!dispatchPermits.tryAcquire()) {
+            LOGGER.warn("Skip the schedule task {} because {} fires are already waiting for the job executors",
+                    scheduledTask.getName(), MAX_PENDING_DISPATCHES);
+            scheduledTask.running.set(false);
+            return;
+        }
+        try {
+            dispatcher.execute(() -> handOver(scheduledTask));
+        } catch (RejectedExecutionException exception) {
+            LOGGER.error("Cannot dispatch the schedule task {}", scheduledTask.getName(), exception);
+            dispatchPermits.release();
+            scheduledTask.running.set(false);
+        }
+    }
+
+    /**
+     * Runs on the dispatch thread of the fire, the job executor may block it until a job thread is free
+     */
+    private void handOver(ScheduledTask scheduledTask) {
+        try {
+            scheduledTask.executor.execute(() -> {
+                try {
+                    scheduledTask.runnable.run();
+                } catch (Exception exception) {
+                    LOGGER.error("An exception occurred while running the schedule task {}", scheduledTask.getName(), exception);
+                } finally {
+                    scheduledTask.running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            LOGGER.error("Cannot submit the schedule task {}", scheduledTask.getName(), exception);
+            scheduledTask.running.set(false);
+        } finally {
+            dispatchPermits.release();
+        }
+    }
+
+    public final class ScheduledTask {
+
+        @Getter
+        private final String name;
+
+        private final Runnable runnable;
+
+        private final long periodInMs;
+
+        private final Executor executor;
+
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        private volatile long expirationMs;
+
+        private volatile TimerBucket bucket;
+
+        private ScheduledTask(String name, Runnable runnable, long periodInMs, Executor executor) {
+            this.name = name;
+            this.runnable = runnable;
+            this.periodInMs = periodInMs;
+            this.executor = executor;
+        }
+
+        public void cancel() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return;
+            }
+            numberOfScheduledTasks.decrementAndGet();
+            TimerBucket currentBucket = bucket;
+            if (currentBucket != null) {
+                currentBucket.remove(this);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+    }
+
+    private static final class TimerBucket implements Delayed {
+
+        private final AtomicLong expirationMs = new AtomicLong(-1);
+
+        private final Set<ScheduledTask> scheduledTasks = ConcurrentHashMap.newKeySet();
+
+        private synchronized void add(ScheduledTask scheduledTask) {
+            scheduledTasks.add(scheduledTask);
+            scheduledTask.bucket = this;
+        }
+
+        private synchronized void remove(ScheduledTask scheduledTask) {
+            if (scheduledTasks.remove(scheduledTask)) {
+                scheduledTask.bucket = null;
+            }
+        }
+
+        private synchronized void flush(Consumer<ScheduledTask> reinsert) {
+            List<ScheduledTask> expiredTasks = new ArrayList<>(scheduledTasks);
+            scheduledTasks.clear();
+            expirationMs.set(-1);
+            expiredTasks.forEach(scheduledTask -> {
+                scheduledTask.bucket = null;
+                reinsert.accept(scheduledTask);
+            });
+        }
+
+        private boolean setExpirationMs(long newExpirationMs) {
+            return expirationMs.getAndSet(newExpirationMs) != newExpirationMs;
+        }
+
+        private long getExpirationMs() {
+            return expirationMs.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            long delayInMs = getExpirationMs() - DateTimeUtils.getCurrentEpochTimeInMillisecond();
+            return unit.convert(Math.max(delayInMs, 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpirationMs(), ((TimerBucket) other).getExpirationMs());
+        }
+    }
+
+    private final class TimingWheel {
+
+        private final long tickInMs;
+
+        private final long intervalInMs;
+
+        private final TimerBucket[] buckets = new TimerBucket[WHEEL_SIZE];
+
+        private volatile long currentTimeMs;
+
+        private volatile TimingWheel overflowWheel;
+
+        private TimingWheel(long tickInMs, long startMs) {
+            this.tickInMs = tickInMs;
+            this.intervalInMs = tickInMs * WHEEL_SIZE;
+            this.currentTimeMs = startMs - (startMs % tickInMs);
+            for (int index = 0; index < WHEEL_SIZE; index++) {
+                buckets[index] = new TimerBucket();
+            }
+        }
+
+        /**
+         * @return false if the task is already due and must be fired
+         */
+        private boolean add(ScheduledTask scheduledTask) {
+            long expirationMs = scheduledTask.expirationMs;
+            if (expirationMs < currentTimeMs + tickInMs) {
+                return false;
+            }
+            if (expirationMs < currentTimeMs + intervalInMs) {
+                long virtualId = expirationMs / tickInMs;
+                TimerBucket bucket = buckets[(int) (virtualId % WHEEL_SIZE)];
+                bucket.add(scheduledTask);
+                if (bucket.setExpirationMs(virtualId * tickInMs)) {
+                    delayQueue.offer(bucket);
+                }
+                return true;
+            }
+            return getOverflowWheel().add(scheduledTask);
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTimeMs + tickInMs) {
+                currentTimeMs = timeMs - (timeMs % tickInMs);
+                TimingWheel currentOverflowWheel = overflowWheel;
+                if (currentOverflowWheel != null) {
+                    currentOverflowWheel.advanceClock(currentTimeMs);
+                }
+            }
+        }
+
+        private TimingWheel getOverflowWheel() {
+            if (overflowWheel == null) {
+                synchronized (this) {
+                    if (overflowWheel == null) {
+                        overflowWheel = new TimingWheel(intervalInMs, currentTimeMs);
+                    }
+                }
+            }
+            return overflowWheel;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.hoatv.action.manager.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in executor for IO jobs, each job runs on its own virtual thread and the number of
+ * concurrent jobs is limited by a semaphore instead of the size of a platform thread pool
+ */
+@Component
+public class VirtualThreadJobExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadJobExecutor.class);
+
+    @Getter
+    private final boolean enabled;
+
+    @Getter
+    private final int maxConcurrency;
+
+    private final Semaphore concurrentJobLocks;
+
+    private final ExecutorService executorService;
+
+    @Autowired
+    public VirtualThreadJobExecutor(@Value("${action.manager.io-jobs.virtual-threads.enabled:false}") boolean enabled,
+                                    @Value("${action.manager.io-jobs.virtual-threads.max-concurrency:200}") int maxConcurrency) {
+        this.enabled = enabled;
+        this.maxConcurrency = maxConcurrency;
+        this.concurrentJobLocks = new Semaphore(maxConcurrency);
+        this.executorService = enabled
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("io-job-", 0).factory())
+                : null;
+        if (enabled) {
+            LOGGER.info("IO jobs are executed on virtual threads, max concurrency: {}", maxConcurrency);
+        }
+    }
+
+    public void execute(Runnable jobRunnable) {
+        executorService.execute(() -> {
+            // Waiting for a permit only parks the virtual thread, the caller is never blocked
+            concurrentJobLocks.acquireUninterruptibly();
+            try {
+                jobRunnable.run();
+            } catch (Exception exception) {
+                LOGGER.error("An exception occurred while executing IO job", exception);
+            } finally {
+                concurrentJobLocks.release();
+            }
+        });
+    }
+
+    public int getAvailablePermits() {
+        return concurrentJobLocks.availablePermits();
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        if (!executorService.awaitTermination(JobManagerServiceImpl.MAX_AWAIT_TERMINATION_MILLIS, TimeUnit.MILLISECONDS)) {
+            executorService.shutdownNow();
+        }
+    }
+}
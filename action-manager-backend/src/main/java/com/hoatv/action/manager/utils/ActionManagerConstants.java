@@ -1,39 +1,54 @@
 package com.hoatv.action.manager.utils;
 
 import com.hoatv.action.manager.collections.JobExecutionStatus;
-import com.hoatv.action.manager.services.ActionManagerStatistics;
-import com.hoatv.fwk.common.services.BiCheckedConsumer;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.BiPredicate;
 
 public class ActionManagerConstants {
-    public static final Map<BiPredicate<JobExecutionStatus, JobExecutionStatus>, BiCheckedConsumer<ActionManagerStatistics, String>> JOB_STATUS_COUNTER_PROCESSOR = new HashMap<>();
+
+    public static final int SUCCESS_JOB_DELTA_INDEX = 0;
+
+    public static final int FAILURE_JOB_DELTA_INDEX = 1;
+
+    public static final int PENDING_JOB_DELTA_INDEX = 2;
+
+    private static final int NUMBER_OF_STATUSES = JobExecutionStatus.values().length;
+
+    /**
+     * Counter deltas of a job status transition indexed by [previous status][next status], the
+     * previous status of a job run for the first time is null and is stored at the first row.
+     * A null cell is a transition without any counter processor.
+     */
+    private static final long[][][] JOB_STATUS_TRANSITION_DELTAS = new long[NUMBER_OF_STATUSES + 1][NUMBER_OF_STATUSES][];
+
+    private static final long[] NO_DELTA = {0, 0, 0};
 
     static {
-        JOB_STATUS_COUNTER_PROCESSOR.put((prev, next) -> prev == next, (actionManagerStatistics, actionId) -> {
-        });
-        JOB_STATUS_COUNTER_PROCESSOR.put((prev, next) -> prev == null && next == JobExecutionStatus.SUCCESS, ActionManagerStatistics::increaseNumberOfSuccessJob);
-        JOB_STATUS_COUNTER_PROCESSOR.put((prev, next) -> prev == null && next == JobExecutionStatus.FAILURE, ActionManagerStatistics::increaseNumberOfFailureJob);
-        JOB_STATUS_COUNTER_PROCESSOR.put((prev, next) -> prev == JobExecutionStatus.FAILURE && next == JobExecutionStatus.SUCCESS, (actionManagerStatistics, actionId) -> {
-            actionManagerStatistics.increaseNumberOfSuccessJob(actionId);
-            actionManagerStatistics.decreaseNumberOfFailureJob(actionId);
-        });
-
-        JOB_STATUS_COUNTER_PROCESSOR.put((prev, next) -> prev == JobExecutionStatus.SUCCESS && next == JobExecutionStatus.FAILURE, (actionManagerStatistics, actionId) -> {
-            actionManagerStatistics.decreaseNumberOfSuccessJob(actionId);
-            actionManagerStatistics.increaseNumberOfFailureJob(actionId);
-        });
-
-        JOB_STATUS_COUNTER_PROCESSOR.put((prev, next) -> prev == JobExecutionStatus.PENDING && next == JobExecutionStatus.FAILURE, (actionManagerStatistics, actionId) -> {
-            actionManagerStatistics.decreaseNumberOfPendingJob(actionId);
-            actionManagerStatistics.increaseNumberOfFailureJob(actionId);
-        });
-        JOB_STATUS_COUNTER_PROCESSOR.put((prev, next) -> prev == JobExecutionStatus.PENDING && next == JobExecutionStatus.SUCCESS, (actionManagerStatistics, actionId) -> {
-            actionManagerStatistics.decreaseNumberOfPendingJob(actionId);
-            actionManagerStatistics.increaseNumberOfSuccessJob(actionId);
-        });
+        for (JobExecutionStatus status : JobExecutionStatus.values()) {
+            putTransition(status, status, NO_DELTA);
+        }
+        putTransition(null, JobExecutionStatus.SUCCESS, new long[]{1, 0, 0});
+        putTransition(null, JobExecutionStatus.FAILURE, new long[]{0, 1, 0});
+        putTransition(JobExecutionStatus.FAILURE, JobExecutionStatus.SUCCESS, new long[]{1, -1, 0});
+        putTransition(JobExecutionStatus.SUCCESS, JobExecutionStatus.FAILURE, new long[]{-1, 1, 0});
+        putTransition(JobExecutionStatus.PENDING, JobExecutionStatus.FAILURE, new long[]{0, 1, -1});
+        putTransition(JobExecutionStatus.PENDING, JobExecutionStatus.SUCCESS, new long[]{1, 0, -1});
+    }
+
+    /**
+     * @return the success, failure and pending job deltas, or null if the transition is not handled
+     */
+    public static long[] getJobStatusTransitionDeltas(JobExecutionStatus prevStatus, JobExecutionStatus nextStatus) {
+        if (nextStatus == null) {
+            return prevStatus == null ? NO_DELTA : null;
+        }
+        return JOB_STATUS_TRANSITION_DELTAS[getPrevStatusIndex(prevStatus)][nextStatus.ordinal()];
+    }
+
+    private static void putTransition(JobExecutionStatus prevStatus, JobExecutionStatus nextStatus, long[] deltas) {
+        JOB_STATUS_TRANSITION_DELTAS[getPrevStatusIndex(prevStatus)][nextStatus.ordinal()] = deltas;
+    }
+
+    private static int getPrevStatusIndex(JobExecutionStatus prevStatus) {
+        return prevStatus == null ? 0 : prevStatus.ordinal() + 1;
     }
 
     private ActionManagerConstants() {
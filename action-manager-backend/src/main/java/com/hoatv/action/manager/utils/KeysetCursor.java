@@ -0,0 +1,72 @@
+package com.hoatv.action.manager.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoatv.fwk.common.exceptions.InvalidArgumentException;
+import com.hoatv.fwk.common.ultilities.ObjectUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Opaque continuation token of keyset pagination. The token holds the sort key values of the last returned
+ * document, the next page starts right after it instead of skipping the previous documents.
+ */
+public final class KeysetCursor {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<List<Object>> KEY_VALUES_TYPE = new TypeReference<>() {
+    };
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(List<Object> keyValues) {
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(keyValues);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Cannot encode the page cursor of " + keyValues, exception);
+        }
+    }
+
+    public static List<Object> decode(String cursor, int numberOfKeys) {
+        List<Object> keyValues;
+        try {
+            keyValues = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), KEY_VALUES_TYPE);
+        } catch (IllegalArgumentException | IOException exception) {
+            throw new InvalidArgumentException("Invalid page cursor: " + cursor);
+        }
+        ObjectUtils.checkThenThrow(keyValues == null || keyValues.size() != numberOfKeys,
+                () -> new InvalidArgumentException("Invalid page cursor: " + cursor));
+        return keyValues;
+    }
+
+    /**
+     * Match the documents placed after the given key values in the sort, e.g. for (createdAt desc, hash desc):
+     * createdAt &lt; c OR (createdAt = c AND hash &lt; h). The last sort key must be unique.
+     */
+    public static Criteria after(Sort sort, List<Object> keyValues) {
+        List<Sort.Order> orders = sort.toList();
+        List<Criteria> branches = new ArrayList<>(orders.size());
+        for (int keyIndex = 0; keyIndex < orders.size(); keyIndex++) {
+            List<Criteria> branch = new ArrayList<>(keyIndex + 1);
+            for (int equalIndex = 0; equalIndex < keyIndex; equalIndex++) {
+                branch.add(Criteria.where(orders.get(equalIndex).getProperty()).is(keyValues.get(equalIndex)));
+            }
+            Sort.Order order = orders.get(keyIndex);
+            Criteria keyCriteria = Criteria.where(order.getProperty());
+            branch.add(order.isAscending()
+                    ? keyCriteria.gt(keyValues.get(keyIndex))
+                    : keyCriteria.lt(keyValues.get(keyIndex)));
+            branches.add(branch.size() == 1 ? branch.get(0) : new Criteria().andOperator(branch));
+        }
+        return new Criteria().orOperator(branches);
+    }
+}
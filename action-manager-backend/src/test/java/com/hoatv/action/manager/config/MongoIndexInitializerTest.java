@@ -0,0 +1,61 @@
+package com.hoatv.action.manager.config;
+
+import com.hoatv.action.manager.collections.ActionDocument;
+import com.hoatv.action.manager.repositories.ActionDocumentRepository;
+import com.hoatv.action.manager.services.JobContentStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest(excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MongoConfig.class))
+@ActiveProfiles("test")
+@ContextConfiguration(classes = MongoIndexInitializerTest.TestMongoConfiguration.class)
+@DisabledIfEnvironmentVariable(named = "GITHUB_ACTIONS", matches = "true")
+class MongoIndexInitializerTest {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableMongoRepositories(basePackageClasses = ActionDocumentRepository.class)
+    @Import({MongoIndexInitializer.class, JobContentStore.class})
+    static class TestMongoConfiguration {
+    }
+
+    @Autowired
+    private MongoIndexInitializer mongoIndexInitializer;
+
+    @Autowired
+    private ActionDocumentRepository actionDocumentRepository;
+
+    @BeforeEach
+    void setUp() {
+        actionDocumentRepository.deleteAll();
+    }
+
+    @Test
+    void backfillActionNormalizedNames_shouldSuffixDuplicates() {
+        ActionDocument firstAction = actionDocumentRepository.save(ActionDocument.builder()
+                .actionName(" Nightly  Build").createdAt(1).build());
+        ActionDocument duplicateAction = actionDocumentRepository.save(ActionDocument.builder()
+                .actionName("nightly build").createdAt(2).build());
+
+        mongoIndexInitializer.backfillActionNormalizedNames();
+
+        assertThat(actionDocumentRepository.findById(firstAction.getHash()))
+                .get().extracting(ActionDocument::getNormalizedName).isEqualTo("nightly build");
+        assertThat(actionDocumentRepository.findById(duplicateAction.getHash()))
+                .get().extracting(ActionDocument::getNormalizedName)
+                .isEqualTo("nightly build-" + duplicateAction.getHash().substring(0, 8));
+    }
+}
@@ -27,9 +27,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hoatv.action.manager.api.ActionManagerService;
 import com.hoatv.action.manager.api.JobManagerService;
 import com.hoatv.action.manager.dtos.ActionDefinitionDTO;
+import com.hoatv.action.manager.dtos.CursorPageResponseDTO;
 import com.hoatv.action.manager.dtos.JobDefinitionDTO;
 import com.hoatv.action.manager.dtos.JobDetailDTO;
 import com.hoatv.action.manager.dtos.JobOverviewDTO;
+import com.hoatv.action.manager.dtos.JobRunDTO;
 import com.hoatv.fwk.common.exceptions.EntityNotFoundException;
 import com.hoatv.action.manager.repositories.ActionDocumentRepository;
 import com.hoatv.action.manager.repositories.JobDocumentRepository;
@@ -87,6 +89,22 @@ class JobControllerV1Test {
                .andExpect(status().isOk());
     }
 
+    @Test
+    void testGetJobsUsesCursorWhenNoPageIndex() throws Exception {
+        CursorPageResponseDTO<JobOverviewDTO> page = new CursorPageResponseDTO<>(List.of(new JobOverviewDTO()), "next", null);
+        Mockito.when(jobManagerService.getOverviewJobs(Mockito.eq("cursor-1"), Mockito.eq(10), Mockito.any(), Mockito.eq(false)))
+               .thenReturn(page);
+
+        mockMvc.perform(get("/v1/jobs")
+                            .param("cursor", "cursor-1")
+                            .param("pageSize", "10"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.nextCursor").value("next"))
+               .andExpect(jsonPath("$.hasNext").value(true))
+               .andExpect(jsonPath("$.totalElements").doesNotExist());
+        Mockito.verify(jobManagerService, Mockito.never()).getOverviewJobs(Mockito.any(), Mockito.any());
+    }
+
     @Test
     void testUpdateJobReturnsOkWhenValidInput() throws Exception {
         JobDefinitionDTO job = getJobDefinitionDTO();
@@ -132,6 +150,19 @@ class JobControllerV1Test {
                .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testGetJobRunsReturnsOkWhenSuccess() throws Exception {
+        String jobId = "job-1";
+        Page<JobRunDTO> page = new PageImpl<>(List.of(JobRunDTO.builder().hash("run-1").build()));
+        Mockito.when(jobManagerService.getJobRuns(Mockito.eq(jobId), Mockito.any()))
+               .thenReturn(page);
+
+        mockMvc.perform(get("/v1/jobs/{jobId}/runs", jobId)
+                            .param("pageIndex", "0")
+                            .param("pageSize", "10"))
+               .andExpect(status().isOk());
+    }
+
     @Test
     void testDryRunReturnsNoContentWhenValidInput() throws Exception {
         JobDefinitionDTO job = getJobDefinitionDTO();
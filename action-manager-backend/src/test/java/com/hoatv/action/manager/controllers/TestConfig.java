@@ -1,6 +1,7 @@
 package com.hoatv.action.manager.controllers;
 
 import com.hoatv.action.manager.services.ActionManagerStatistics;
+import com.hoatv.action.manager.services.JobLatencyStatistics;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
 import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
@@ -29,6 +30,9 @@ public class TestConfig {
     @MockBean
     private ActionManagerStatistics actionManagerStatistics;
 
+    @MockBean
+    private JobLatencyStatistics jobLatencyStatistics;
+
     @Configuration
     @EnableWebSecurity
     public static class TestSecurityConfig {
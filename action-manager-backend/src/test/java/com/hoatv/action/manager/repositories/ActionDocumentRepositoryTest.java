@@ -11,6 +11,7 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.context.annotation.FilterType;
@@ -19,6 +20,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataMongoTest(excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MongoConfig.class))
 @ActiveProfiles("test")
@@ -121,4 +123,16 @@ class ActionDocumentRepositoryTest {
         assertThat(page1.getTotalElements()).isEqualTo(3);
         assertThat(page1.getTotalPages()).isEqualTo(2);
     }
+
+    @Test
+    void save_shouldRejectDuplicateNormalizedName() {
+        repository.save(ActionDocument.builder().actionName("Deploy App").normalizedName("deploy app").build());
+
+        assertThat(repository.existsByNormalizedName("deploy app")).isTrue();
+        assertThatThrownBy(() -> repository.save(ActionDocument.builder()
+                .actionName("deploy  APP")
+                .normalizedName("deploy app")
+                .build()))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
 }
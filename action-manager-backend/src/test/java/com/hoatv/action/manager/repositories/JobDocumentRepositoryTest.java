@@ -0,0 +1,84 @@
+package com.hoatv.action.manager.repositories;
+
+import com.hoatv.action.manager.collections.JobDocument;
+import com.hoatv.action.manager.collections.JobStatus;
+import com.hoatv.action.manager.collections.JobSummary;
+import com.hoatv.action.manager.config.MongoConfig;
+import com.hoatv.action.manager.services.JobContentCallback;
+import com.hoatv.action.manager.services.JobContentStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest(excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MongoConfig.class))
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JobDocumentRepositoryTest.TestMongoConfiguration.class)
+@DisabledIfEnvironmentVariable(named = "GITHUB_ACTIONS", matches = "true")
+class JobDocumentRepositoryTest {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableMongoRepositories(basePackageClasses = JobDocumentRepository.class)
+    @Import({JobContentStore.class, JobContentCallback.class})
+    static class TestMongoConfiguration {
+    }
+
+    @Autowired
+    private JobDocumentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        for (int index = 0; index < 20; index++) {
+            repository.save(JobDocument.builder()
+                    .jobName("Job " + index)
+                    .actionId("action-" + index % 4)
+                    .isScheduled(index % 2 == 0)
+                    .jobStatus(JobStatus.ACTIVE)
+                    .createdAt(index)
+                    .jobContent("function run() { return " + index + "; }")
+                    .build());
+        }
+    }
+
+    @Test
+    void findJobByActionId_shouldMapJobSummaryProjections() {
+        List<JobSummary> jobSummaries = repository.findJobByActionId("action-0",
+                PageRequest.of(0, 10, Sort.by(JobDocument.Fields.createdAt))).getContent();
+
+        assertThat(jobSummaries).hasSize(5).allSatisfy(jobSummary -> {
+            assertThat(jobSummary.hash()).isNotBlank();
+            assertThat(jobSummary.actionId()).isEqualTo("action-0");
+            assertThat(jobSummary.jobStatus()).isEqualTo(JobStatus.ACTIVE);
+            assertThat(jobSummary.isScheduled()).isTrue();
+        });
+    }
+
+    @Test
+    void findAllBy_shouldCountAllJobs() {
+        assertThat(repository.findAllBy(PageRequest.of(0, 4)).getTotalElements()).isEqualTo(20);
+    }
+
+    @Test
+    void findByIsScheduledFalseAndJobStatusAndActionId_shouldReturnUnscheduledJobsOfAction() {
+        assertThat(repository.findByIsScheduledFalseAndJobStatusAndActionId(JobStatus.ACTIVE, "action-1"))
+                .extracting(JobSummary::jobName)
+                .containsExactlyInAnyOrder("Job 1", "Job 5", "Job 9", "Job 13", "Job 17");
+    }
+}
@@ -0,0 +1,238 @@
+package com.hoatv.action.manager.repositories;
+
+import com.hoatv.action.manager.collections.ActionDocument;
+import com.hoatv.action.manager.collections.JobDocument;
+import com.hoatv.action.manager.collections.JobExecutionStatus;
+import com.hoatv.action.manager.collections.JobResultDocument;
+import com.hoatv.action.manager.collections.JobStatus;
+import com.hoatv.action.manager.config.MongoConfig;
+import com.hoatv.action.manager.config.MongoIndexInitializer;
+import com.hoatv.action.manager.services.JobContentCallback;
+import com.hoatv.action.manager.services.JobContentStore;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Capture the queries sent by the repository methods and make sure none of them scans the whole collection
+ */
+@DataMongoTest(excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MongoConfig.class))
+@ActiveProfiles("test")
+@ContextConfiguration(classes = RepositoryIndexUsageTest.TestMongoConfiguration.class)
+@DisabledIfEnvironmentVariable(named = "GITHUB_ACTIONS", matches = "true")
+class RepositoryIndexUsageTest {
+
+    private static final QueryCapture QUERY_CAPTURE = new QueryCapture();
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableMongoRepositories(basePackageClasses = JobDocumentRepository.class)
+    @Import({MongoIndexInitializer.class, JobContentStore.class, JobContentCallback.class})
+    static class TestMongoConfiguration {
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer queryCaptureCustomizer() {
+            return settingsBuilder -> settingsBuilder.addCommandListener(QUERY_CAPTURE);
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ActionDocumentRepository actionDocumentRepository;
+
+    @Autowired
+    private JobDocumentRepository jobDocumentRepository;
+
+    @Autowired
+    private JobExecutionResultDocumentRepository jobResultDocumentRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobDocumentRepository.deleteAll();
+        jobResultDocumentRepository.deleteAll();
+        actionDocumentRepository.deleteAll();
+        for (int index = 0; index < 20; index++) {
+            JobDocument jobDocument = jobDocumentRepository.save(JobDocument.builder()
+                    .jobName("Job " + index)
+                    .actionId("action-" + index % 4)
+                    .isScheduled(index % 2 == 0)
+                    .jobStatus(JobStatus.ACTIVE)
+                    .createdAt(index / 2)
+                    .jobContent("function run() { return " + index + "; }")
+                    .build());
+            jobResultDocumentRepository.save(JobResultDocument.builder()
+                    .jobId(jobDocument.getHash())
+                    .actionId(jobDocument.getActionId())
+                    .jobExecutionStatus(index % 3 == 0 ? JobExecutionStatus.FAILURE : JobExecutionStatus.SUCCESS)
+                    .build());
+        }
+    }
+
+    @Test
+    void jobDocumentRepository_shouldUseIndexForEachQuery() {
+        PageRequest newestJobs = PageRequest.of(1, 4, Sort.by(Sort.Order.desc(JobDocument.Fields.createdAt)));
+
+        assertQueriesUseIndex(JobDocument.class, () -> jobDocumentRepository.findJobByActionId("action-1"));
+        assertQueriesUseIndex(JobDocument.class, () -> jobDocumentRepository.findJobSummaryByActionId("action-1"));
+        assertQueriesUseIndex(JobDocument.class, () -> jobDocumentRepository.findJobsByActionId("action-1"));
+        assertQueriesUseIndex(JobDocument.class, () -> jobDocumentRepository.findJobByActionId("action-1", newestJobs));
+        assertQueriesUseIndex(JobDocument.class, () -> jobDocumentRepository
+                .findJobByActionIdAndJobNameContainingIgnoreCase("action-1", "job", newestJobs));
+        assertQueriesUseIndex(JobDocument.class, () -> jobDocumentRepository
+                .findByIsScheduledTrueAndJobStatusAndActionIdIn(JobStatus.ACTIVE, List.of("action-0", "action-2")));
+        assertQueriesUseIndex(JobDocument.class, () -> jobDocumentRepository
+                .findByIsScheduledTrueAndJobStatusAndActionId(JobStatus.ACTIVE, "action-0"));
+        assertQueriesUseIndex(JobDocument.class, () -> jobDocumentRepository
+                .findByIsScheduledFalseAndJobStatusAndActionId(JobStatus.ACTIVE, "action-1"));
+        assertQueriesUseIndex(JobDocument.class, () -> jobDocumentRepository.findAllBy(newestJobs));
+        assertQueriesUseIndex(JobDocument.class, () -> jobDocumentRepository.deleteByActionId("action-3"));
+    }
+
+    @Test
+    void jobExecutionResultDocumentRepository_shouldUseIndexForEachQuery() {
+        String jobId = jobDocumentRepository.findJobSummaryByActionId("action-1").get(0).hash();
+
+        assertQueriesUseIndex(JobResultDocument.class, () -> jobResultDocumentRepository.findByJobId(jobId));
+        assertQueriesUseIndex(JobResultDocument.class, () -> jobResultDocumentRepository.findByJobIdIn(List.of(jobId)));
+        assertQueriesUseIndex(JobResultDocument.class, () -> jobResultDocumentRepository.deleteByActionId("action-3"));
+    }
+
+    @Test
+    void actionDocumentRepository_shouldUseIndexForEachQuery() {
+        ActionDocument actionDocument = actionDocumentRepository.save(ActionDocument.builder()
+                .actionName("Deploy App")
+                .normalizedName("deploy app")
+                .build());
+
+        assertQueriesUseIndex(ActionDocument.class, () -> actionDocumentRepository.existsByNormalizedName("deploy app"));
+        assertQueriesUseIndex(ActionDocument.class, () -> actionDocumentRepository.findByHashIn(Set.of(actionDocument.getHash())));
+    }
+
+    /**
+     * Explain every query the repository call sent to the collection. Counting all the documents of a collection
+     * reads the whole collection by design and is not explained.
+     */
+    private void assertQueriesUseIndex(Class<?> documentClass, Runnable repositoryCall) {
+        String collectionName = mongoTemplate.getCollectionName(documentClass);
+        QUERY_CAPTURE.clear();
+        repositoryCall.run();
+        List<BsonDocument> queries = QUERY_CAPTURE.getQueries(collectionName).stream()
+                .filter(query -> !isReadingWholeCollection(query))
+                .toList();
+
+        assertThat(queries).as("Queries sent to %s", collectionName).isNotEmpty();
+        for (BsonDocument query : queries) {
+            Document explanation = mongoTemplate.getDb().runCommand(new BsonDocument("explain", query)
+                    .append("verbosity", new BsonString("queryPlanner")), Document.class);
+            List<Document> winningPlans = new ArrayList<>();
+            collectWinningPlans(explanation, winningPlans);
+            assertThat(winningPlans).as("Winning plans of %s", query.toJson()).isNotEmpty();
+            winningPlans.forEach(winningPlan -> assertThat(winningPlan.toJson())
+                    .as("Winning plan of %s", query.toJson())
+                    .matches(plan -> plan.contains("IXSCAN") || plan.contains("IDHACK"), "an index scan")
+                    .doesNotContain("COLLSCAN"));
+        }
+    }
+
+    private static boolean isReadingWholeCollection(BsonDocument query) {
+        String commandName = query.getFirstKey();
+        BsonDocument filter = switch (commandName) {
+            case "find" -> query.getDocument("filter", new BsonDocument());
+            case "count", "distinct" -> query.getDocument("query", new BsonDocument());
+            case "delete" -> query.getArray("deletes").get(0).asDocument().getDocument("q");
+            case "aggregate" -> {
+                BsonArray pipeline = query.getArray("pipeline");
+                BsonValue firstStage = pipeline.isEmpty() ? new BsonDocument() : pipeline.get(0);
+                yield firstStage.asDocument().getDocument("$match", new BsonDocument());
+            }
+            default -> new BsonDocument();
+        };
+        return filter.isEmpty() && !query.containsKey("sort");
+    }
+
+    /**
+     * The winning plans are nested in the stages of an aggregation, they are looked up at any depth
+     */
+    private static void collectWinningPlans(Object value, List<Document> winningPlans) {
+        if (value instanceof Document document) {
+            document.forEach((key, nestedValue) -> {
+                if ("winningPlan".equals(key) && nestedValue instanceof Document winningPlan) {
+                    winningPlans.add(winningPlan);
+                } else {
+                    collectWinningPlans(nestedValue, winningPlans);
+                }
+            });
+        } else if (value instanceof List<?> values) {
+            values.forEach(nestedValue -> collectWinningPlans(nestedValue, winningPlans));
+        }
+    }
+
+    /**
+     * Record the read and delete commands sent by the driver, without the session and routing fields which
+     * cannot be explained
+     */
+    static class QueryCapture implements CommandListener {
+
+        private static final Set<String> QUERY_COMMANDS = Set.of("find", "count", "distinct", "aggregate", "delete");
+
+        private static final Set<String> SESSION_FIELDS = Set.of("lsid", "txnNumber", "readConcern", "writeConcern");
+
+        private final List<BsonDocument> queries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (!QUERY_COMMANDS.contains(event.getCommandName())) {
+                return;
+            }
+            BsonDocument query = new BsonDocument();
+            event.getCommand().forEach((key, value) -> {
+                if (!key.startsWith("$") && !SESSION_FIELDS.contains(key)) {
+                    query.append(key, value.clone());
+                }
+            });
+            queries.add(query);
+        }
+
+        void clear() {
+            queries.clear();
+        }
+
+        List<BsonDocument> getQueries(String collectionName) {
+            return queries.stream()
+                    .filter(query -> query.get(query.getFirstKey()).isString())
+                    .filter(query -> collectionName.equals(query.getString(query.getFirstKey()).getValue()))
+                    .toList();
+        }
+    }
+}
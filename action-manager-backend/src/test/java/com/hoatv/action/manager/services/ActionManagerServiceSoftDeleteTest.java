@@ -5,10 +5,10 @@ import com.hoatv.action.manager.collections.ActionDocument;
 import com.hoatv.action.manager.collections.ActionStatus;
 import com.hoatv.action.manager.collections.JobDocument;
 import com.hoatv.action.manager.collections.JobStatus;
+import com.hoatv.action.manager.collections.JobSummary;
 import com.hoatv.action.manager.dtos.RestoreResponse;
 import com.hoatv.action.manager.repositories.ActionDocumentRepository;
 import com.hoatv.action.manager.repositories.JobDocumentRepository;
-import com.hoatv.action.manager.repositories.JobExecutionResultDocumentRepository;
 import com.hoatv.fwk.common.exceptions.EntityNotFoundException;
 import com.hoatv.fwk.common.exceptions.InvalidArgumentException;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +17,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,20 +39,22 @@ class ActionManagerServiceSoftDeleteTest {
     @Mock
     private JobDocumentRepository jobDocumentRepository;
 
-    @Mock
-    private JobExecutionResultDocumentRepository jobResultDocumentRepository;
-
     @Mock
     private JobManagerService jobManagerService;
 
     @Mock
     private ActionManagerStatistics actionManagerStatistics;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
     @InjectMocks
     private ActionManagerServiceImpl actionManagerService;
 
     private ActionDocument testAction;
     private List<JobDocument> testJobs;
+    private List<JobDocumentRepository.JobIdImmutable> testJobIds;
+    private List<JobSummary> testJobSummaries;
 
     @BeforeEach
     void setUp() {
@@ -77,6 +82,10 @@ class ActionManagerServiceSoftDeleteTest {
                 .build();
 
         testJobs = List.of(job1, job2);
+        testJobIds = List.of(() -> "job-1", () -> "job-2");
+        testJobSummaries = List.of(
+                new JobSummary("job-1", "Test Job 1", "action-id-1", JobStatus.ACTIVE, true, 0),
+                new JobSummary("job-2", "Test Job 2", "action-id-1", JobStatus.ACTIVE, false, 0));
     }
 
     // ==================== Soft Delete Tests ====================
@@ -84,7 +93,7 @@ class ActionManagerServiceSoftDeleteTest {
     @Test
     void testSoftDelete_Success() {
         when(actionDocumentRepository.findById("action-id-1")).thenReturn(Optional.of(testAction));
-        when(jobDocumentRepository.findJobByActionId("action-id-1")).thenReturn(testJobs);
+        when(jobDocumentRepository.findJobsByActionId("action-id-1")).thenReturn(testJobIds);
 
         actionManagerService.softDelete("action-id-1");
 
@@ -92,9 +101,9 @@ class ActionManagerServiceSoftDeleteTest {
         assertEquals(ActionStatus.ACTIVE, testAction.getPreviousStatus());
         assertNotNull(testAction.getDeletedAt());
         
-        verify(jobDocumentRepository).saveAll(any());
+        verify(mongoTemplate).updateMulti(any(Query.class), any(Update.class), eq(JobDocument.class));
         verify(jobManagerService, times(2)).pause(anyString());
-        verify(actionDocumentRepository).save(testAction);
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(ActionDocument.class));
     }
 
     @Test
@@ -108,7 +117,7 @@ class ActionManagerServiceSoftDeleteTest {
         );
 
         assertTrue(exception.getMessage().contains("Action already deleted"));
-        verify(jobDocumentRepository, never()).findJobByActionId(anyString());
+        verify(jobDocumentRepository, never()).findJobsByActionId(anyString());
     }
 
     @Test
@@ -124,12 +133,14 @@ class ActionManagerServiceSoftDeleteTest {
     @Test
     void testSoftDelete_PausesAllJobs() {
         when(actionDocumentRepository.findById("action-id-1")).thenReturn(Optional.of(testAction));
-        when(jobDocumentRepository.findJobByActionId("action-id-1")).thenReturn(testJobs);
+        when(jobDocumentRepository.findJobsByActionId("action-id-1")).thenReturn(testJobIds);
 
         actionManagerService.softDelete("action-id-1");
 
-        // Verify all jobs are set to PAUSED
-        testJobs.forEach(job -> assertEquals(JobStatus.PAUSED, job.getJobStatus()));
+        // Verify all jobs are set to PAUSED with one update, without loading the job documents
+        verify(mongoTemplate).updateMulti(any(Query.class), eq(Update.update(JobDocument.Fields.jobStatus, JobStatus.PAUSED)),
+                eq(JobDocument.class));
+        verify(jobDocumentRepository, never()).findJobByActionId(anyString());
         verify(jobManagerService).pause("job-1");
         verify(jobManagerService).pause("job-2");
     }
@@ -196,10 +207,10 @@ class ActionManagerServiceSoftDeleteTest {
         testAction.setDeletedAt(System.currentTimeMillis() / 1000);
         
         when(actionDocumentRepository.findById("action-id-1")).thenReturn(Optional.of(testAction));
-        when(jobDocumentRepository.findJobByActionId("action-id-1")).thenReturn(testJobs);
+        when(jobDocumentRepository.findJobSummaryByActionId("action-id-1")).thenReturn(testJobSummaries);
         // Mock getJobDocument for each scheduled job
         when(jobManagerService.getJobDocument("job-1")).thenReturn(testJobs.get(0));
-        when(jobResultDocumentRepository.findByJobId("job-1")).thenReturn(null);
+        when(jobManagerService.getJobResultDocument("job-1")).thenReturn(null);
 
         RestoreResponse response = actionManagerService.restore("action-id-1", null);
 
@@ -209,7 +220,7 @@ class ActionManagerServiceSoftDeleteTest {
         assertNull(testAction.getDeletedAt());
         assertNull(testAction.getPreviousStatus());
         
-        verify(actionDocumentRepository).save(testAction);
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(ActionDocument.class));
     }
 
     @Test
@@ -259,10 +270,10 @@ class ActionManagerServiceSoftDeleteTest {
         testAction.setPreviousStatus(null);
         
         when(actionDocumentRepository.findById("action-id-1")).thenReturn(Optional.of(testAction));
-        when(jobDocumentRepository.findJobByActionId("action-id-1")).thenReturn(testJobs);
+        when(jobDocumentRepository.findJobSummaryByActionId("action-id-1")).thenReturn(testJobSummaries);
         // Mock getJobDocument for scheduled jobs
         when(jobManagerService.getJobDocument("job-1")).thenReturn(testJobs.get(0));
-        when(jobResultDocumentRepository.findByJobId("job-1")).thenReturn(null);
+        when(jobManagerService.getJobResultDocument("job-1")).thenReturn(null);
 
         RestoreResponse response = actionManagerService.restore("action-id-1", null);
 
@@ -276,10 +287,10 @@ class ActionManagerServiceSoftDeleteTest {
         testAction.setPreviousStatus(ActionStatus.ACTIVE);
         
         when(actionDocumentRepository.findById("action-id-1")).thenReturn(Optional.of(testAction));
-        when(jobDocumentRepository.findJobByActionId("action-id-1")).thenReturn(testJobs);
+        when(jobDocumentRepository.findJobSummaryByActionId("action-id-1")).thenReturn(testJobSummaries);
         // Mock getJobDocument for scheduled job
         when(jobManagerService.getJobDocument("job-1")).thenReturn(testJobs.get(0));
-        when(jobResultDocumentRepository.findByJobId("job-1")).thenReturn(null);
+        when(jobManagerService.getJobResultDocument("job-1")).thenReturn(null);
 
         actionManagerService.restore("action-id-1", ActionStatus.ACTIVE);
 
@@ -291,7 +302,7 @@ class ActionManagerServiceSoftDeleteTest {
         JobDocument nonScheduledJob = testJobs.get(1);
         assertEquals(JobStatus.ACTIVE, nonScheduledJob.getJobStatus());
         
-        verify(jobDocumentRepository).saveAll(any());
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class), any(Update.class), eq(JobDocument.class));
     }
 
     @Test
@@ -304,7 +315,7 @@ class ActionManagerServiceSoftDeleteTest {
         actionManagerService.restore("action-id-1", ActionStatus.PAUSED);
 
         // Verify jobs are not modified when restoring to non-ACTIVE status
-        verify(jobDocumentRepository, never()).saveAll(any());
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(JobDocument.class));
     }
 
     // ==================== Archive Tests (with previousStatus) ====================
@@ -312,12 +323,13 @@ class ActionManagerServiceSoftDeleteTest {
     @Test
     void testArchive_StoresPreviousStatus() {
         when(actionDocumentRepository.findById("action-id-1")).thenReturn(Optional.of(testAction));
-        when(jobDocumentRepository.findJobByActionId("action-id-1")).thenReturn(testJobs);
+        when(jobDocumentRepository.findJobsByActionId("action-id-1")).thenReturn(testJobIds);
 
         actionManagerService.archive("action-id-1");
 
         assertEquals(ActionStatus.ARCHIVED, testAction.getActionStatus());
         assertEquals(ActionStatus.ACTIVE, testAction.getPreviousStatus());
-        verify(actionDocumentRepository).save(testAction);
+        verify(mongoTemplate).updateMulti(any(Query.class), any(Update.class), eq(JobDocument.class));
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(ActionDocument.class));
     }
 }
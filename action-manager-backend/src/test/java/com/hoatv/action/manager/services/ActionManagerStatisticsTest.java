@@ -0,0 +1,104 @@
+package com.hoatv.action.manager.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hoatv.action.manager.collections.JobExecutionStatus;
+import com.hoatv.action.manager.services.ActionManagerStatistics.ActionStatistics;
+
+
+/**
+ * Tests for per-action counters and global totals of action statistics
+ */
+class ActionManagerStatisticsTest {
+
+    private ActionManagerStatistics actionManagerStatistics;
+
+    @BeforeEach
+    void setUp() {
+        actionManagerStatistics = new ActionManagerStatistics();
+    }
+
+    @Test
+    @DisplayName("Should update action counters and totals on job status transitions")
+    void should_updateCountersAndTotals_when_jobStatusChanged() {
+        actionManagerStatistics.initActionStatistics(Set.of("action-1"));
+        actionManagerStatistics.increaseNumberOfJobs("action-1", 3);
+        actionManagerStatistics.increaseNumberOfPendingJob("action-1", 2);
+
+        actionManagerStatistics.applyJobStatusTransition("action-1", JobExecutionStatus.PENDING, JobExecutionStatus.SUCCESS);
+        actionManagerStatistics.applyJobStatusTransition("action-1", JobExecutionStatus.PENDING, JobExecutionStatus.FAILURE);
+        actionManagerStatistics.applyJobStatusTransition("action-1", null, JobExecutionStatus.FAILURE);
+        actionManagerStatistics.applyJobStatusTransition("action-1", JobExecutionStatus.FAILURE, JobExecutionStatus.SUCCESS);
+
+        ActionStatistics actionStats = actionManagerStatistics.getActionStats("action-1");
+        assertEquals(3, actionStats.getNumberOfJobs().sum());
+        assertEquals(2, actionStats.getNumberOfSuccessJobs().sum());
+        assertEquals(1, actionStats.getNumberOfFailureJobs().sum());
+        assertEquals(0, actionStats.getNumberOfPendingJobs().sum());
+        assertEquals(3, actionManagerStatistics.getTotalJobs());
+        assertEquals(2, actionManagerStatistics.getTotalSuccessJobs());
+        assertEquals(1, actionManagerStatistics.getTotalFailedJobs());
+        assertEquals(0, actionManagerStatistics.getTotalPendingJobs());
+    }
+
+    @Test
+    @DisplayName("Should remove the counters of a deleted job")
+    void should_decreaseCounters_when_jobDeleted() {
+        actionManagerStatistics.initActionStatistics("action-1", ActionStatistics.builder()
+                .numberOfJobs(3).numberOfScheduleJobs(1).numberOfFailureJobs(2).numberOfSuccessJobs(1).build());
+
+        actionManagerStatistics.decreaseNumberOfJobs("action-1", true, JobExecutionStatus.FAILURE);
+
+        ActionStatistics actionStats = actionManagerStatistics.getActionStats("action-1");
+        assertEquals(2, actionStats.getNumberOfJobs().sum());
+        assertEquals(0, actionStats.getNumberOfScheduleJobs().sum());
+        assertEquals(1, actionStats.getNumberOfFailureJobs().sum());
+        assertEquals(1, actionStats.getNumberOfSuccessJobs().sum());
+        assertEquals(2, actionManagerStatistics.getTotalJobs());
+        assertEquals(1, actionManagerStatistics.getTotalFailedJobs());
+        assertEquals(0, actionManagerStatistics.getTotalScheduleJobs());
+    }
+
+    @Test
+    @DisplayName("Should count unhandled job status transitions without changing counters")
+    void should_countUnhandledTransition_when_noDeltaDefined() {
+        actionManagerStatistics.initActionStatistics(Set.of("action-1"));
+
+        actionManagerStatistics.applyJobStatusTransition("action-1", JobExecutionStatus.PROCESSING, JobExecutionStatus.SUCCESS);
+
+        assertEquals(1, actionManagerStatistics.getNumberOfUnhandledJobStatusTransitions());
+        assertEquals(0, actionManagerStatistics.getTotalSuccessJobs());
+    }
+
+    @Test
+    @DisplayName("Should subtract removed and replaced actions from totals")
+    void should_keepTotals_when_actionRemovedOrReplaced() {
+        actionManagerStatistics.initActionStatistics("action-1", ActionStatistics.builder()
+                .numberOfJobs(5)
+                .numberOfFailureJobs(2)
+                .numberOfScheduleJobs(1)
+                .build());
+        actionManagerStatistics.initActionStatistics("action-2", ActionStatistics.builder()
+                .numberOfJobs(4)
+                .numberOfFailureJobs(1)
+                .build());
+        actionManagerStatistics.initActionStatistics("action-2", ActionStatistics.builder()
+                .numberOfJobs(6)
+                .numberOfFailureJobs(3)
+                .build());
+
+        actionManagerStatistics.removeActionStats("action-1");
+        actionManagerStatistics.applyJobStatusTransition("action-1", null, JobExecutionStatus.FAILURE);
+
+        assertEquals(1, actionManagerStatistics.getNumberOfActions());
+        assertEquals(6, actionManagerStatistics.getTotalJobs());
+        assertEquals(3, actionManagerStatistics.getTotalFailedJobs());
+        assertEquals(0, actionManagerStatistics.getTotalScheduleJobs());
+    }
+}
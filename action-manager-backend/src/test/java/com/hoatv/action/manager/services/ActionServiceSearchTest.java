@@ -23,17 +23,19 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextQuery;
 
 import com.hoatv.action.manager.api.JobManagerService;
 import com.hoatv.action.manager.collections.ActionDocument;
 import com.hoatv.action.manager.collections.ActionStatus;
 import com.hoatv.action.manager.dtos.ActionOverviewDTO;
+import com.hoatv.action.manager.dtos.ActionSearchMode;
 import com.hoatv.action.manager.repositories.ActionDocumentRepository;
 import com.hoatv.action.manager.repositories.JobDocumentRepository;
-import com.hoatv.action.manager.repositories.JobExecutionResultDocumentRepository;
 import com.hoatv.action.manager.services.ActionManagerStatistics.ActionStatistics;
 
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service layer tests for action search functionality
@@ -49,15 +51,15 @@ class ActionServiceSearchTest {
     @Mock
     private JobDocumentRepository jobDocumentRepository;
 
-    @Mock
-    private JobExecutionResultDocumentRepository jobResultDocumentRepository;
-
     @Mock
     private JobManagerService jobManagerService;
 
     @Mock
     private ActionManagerStatistics actionManagerStatistics;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
     @InjectMocks
     private ActionManagerServiceImpl actionManagerService;
 
@@ -101,11 +103,11 @@ class ActionServiceSearchTest {
         when(actionDocumentRepository.searchByNameOrDescription(anyString(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(document)));
         ActionStatistics stats = ActionStatistics.builder()
-                .numberOfJobs(new AtomicLong(12))
-                .numberOfScheduleJobs(new AtomicLong(2))
-                .numberOfFailureJobs(new AtomicLong(1))
-                .numberOfSuccessJobs(new AtomicLong(9))
-                .numberOfPendingJobs(new AtomicLong(0))
+                .numberOfJobs(12)
+                .numberOfScheduleJobs(2)
+                .numberOfFailureJobs(1)
+                .numberOfSuccessJobs(9)
+                .numberOfPendingJobs(0)
                 .build();
         when(actionManagerStatistics.getActionStats("action-1")).thenReturn(stats);
 
@@ -133,11 +135,11 @@ class ActionServiceSearchTest {
         when(actionDocumentRepository.searchByNameOrDescription(anyString(), any(Pageable.class)))
                 .thenReturn(documentPage);
         ActionStatistics stats = ActionStatistics.builder()
-                .numberOfJobs(new AtomicLong(5))
-                .numberOfScheduleJobs(new AtomicLong(1))
-                .numberOfFailureJobs(new AtomicLong(0))
-                .numberOfSuccessJobs(new AtomicLong(5))
-                .numberOfPendingJobs(new AtomicLong(0))
+                .numberOfJobs(5)
+                .numberOfScheduleJobs(1)
+                .numberOfFailureJobs(0)
+                .numberOfSuccessJobs(5)
+                .numberOfPendingJobs(0)
                 .build();
         when(actionManagerStatistics.getActionStats(anyString())).thenReturn(stats);
 
@@ -234,11 +236,11 @@ class ActionServiceSearchTest {
         when(actionDocumentRepository.searchByNameOrDescription(anyString(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(documents, PageRequest.of(0, 10), 50));
         ActionStatistics stats = ActionStatistics.builder()
-                .numberOfJobs(new AtomicLong(5))
-                .numberOfScheduleJobs(new AtomicLong(1))
-                .numberOfFailureJobs(new AtomicLong(0))
-                .numberOfSuccessJobs(new AtomicLong(5))
-                .numberOfPendingJobs(new AtomicLong(0))
+                .numberOfJobs(5)
+                .numberOfScheduleJobs(1)
+                .numberOfFailureJobs(0)
+                .numberOfSuccessJobs(5)
+                .numberOfPendingJobs(0)
                 .build();
         when(actionManagerStatistics.getActionStats(anyString())).thenReturn(stats);
 
@@ -255,11 +257,11 @@ class ActionServiceSearchTest {
         when(actionDocumentRepository.searchByNameOrDescription(anyString(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(documents, PageRequest.of(4, 10), 45));
         ActionStatistics stats = ActionStatistics.builder()
-                .numberOfJobs(new AtomicLong(3))
-                .numberOfScheduleJobs(new AtomicLong(0))
-                .numberOfFailureJobs(new AtomicLong(1))
-                .numberOfSuccessJobs(new AtomicLong(2))
-                .numberOfPendingJobs(new AtomicLong(0))
+                .numberOfJobs(3)
+                .numberOfScheduleJobs(0)
+                .numberOfFailureJobs(1)
+                .numberOfSuccessJobs(2)
+                .numberOfPendingJobs(0)
                 .build();
         when(actionManagerStatistics.getActionStats(anyString())).thenReturn(stats);
 
@@ -276,11 +278,11 @@ class ActionServiceSearchTest {
         when(actionDocumentRepository.searchByNameOrDescription(anyString(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(documents, PageRequest.of(0, 20), 5));
         ActionStatistics stats = ActionStatistics.builder()
-                .numberOfJobs(new AtomicLong(2))
-                .numberOfScheduleJobs(new AtomicLong(0))
-                .numberOfFailureJobs(new AtomicLong(0))
-                .numberOfSuccessJobs(new AtomicLong(2))
-                .numberOfPendingJobs(new AtomicLong(0))
+                .numberOfJobs(2)
+                .numberOfScheduleJobs(0)
+                .numberOfFailureJobs(0)
+                .numberOfSuccessJobs(2)
+                .numberOfPendingJobs(0)
                 .build();
         when(actionManagerStatistics.getActionStats(anyString())).thenReturn(stats);
 
@@ -292,6 +294,59 @@ class ActionServiceSearchTest {
         assertEquals(5, result.getTotalElements());
     }
 
+    // ==================================================
+    // TEXT SEARCH TESTS
+    // ==================================================
+
+    @Test
+    @DisplayName("Should search the text index instead of regex in text mode")
+    void should_useTextIndex_when_textModeRequested() {
+        ActionDocument document = createActionDocument("action-1", "Deploy Application", "Deploy to production", false);
+        when(mongoTemplate.exists(any(TextQuery.class), eq(ActionDocument.class))).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(ActionDocument.class))).thenReturn(List.of(document));
+        when(actionManagerStatistics.getActionStats("action-1")).thenReturn(ActionStatistics.builder().build());
+
+        Page<ActionOverviewDTO> result = actionManagerService.search("deploy", ActionSearchMode.TEXT, defaultPageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals("action-1", result.getContent().get(0).getHash());
+        verify(mongoTemplate, times(1)).find(argThat(query -> query.getQueryObject().containsKey("$text")), eq(ActionDocument.class));
+        verify(actionDocumentRepository, never()).searchByNameOrDescription(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to name prefix when no whole word matches in text mode")
+    void should_matchNamePrefix_when_noWordMatchesInTextMode() {
+        ActionDocument document = createActionDocument("action-1", "Deploy Application", "Deploy to production", false);
+        when(mongoTemplate.exists(any(TextQuery.class), eq(ActionDocument.class))).thenReturn(false);
+        when(mongoTemplate.find(any(Query.class), eq(ActionDocument.class))).thenReturn(List.of(document));
+        when(actionManagerStatistics.getActionStats("action-1")).thenReturn(ActionStatistics.builder().build());
+
+        Page<ActionOverviewDTO> result = actionManagerService.search("depl", ActionSearchMode.TEXT, defaultPageable);
+
+        assertEquals(1, result.getTotalElements());
+        verify(mongoTemplate, times(1)).find(argThat(query -> query.getQueryObject().containsKey(ActionDocument.Fields.normalizedName)),
+                eq(ActionDocument.class));
+        verify(actionDocumentRepository, never()).searchByNameOrDescription(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should keep matching the name prefix on the next pages of a prefix search in text mode")
+    void should_keepPrefixMode_when_nextPageOfPrefixSearchRequested() {
+        ActionDocument document = createActionDocument("action-3", "Deploy Database", "Deploy the schema", false);
+        when(mongoTemplate.exists(any(TextQuery.class), eq(ActionDocument.class))).thenReturn(false);
+        when(mongoTemplate.find(any(Query.class), eq(ActionDocument.class))).thenReturn(List.of(document));
+        when(mongoTemplate.count(any(Query.class), eq(ActionDocument.class))).thenReturn(3L);
+        when(actionManagerStatistics.getActionStats("action-3")).thenReturn(ActionStatistics.builder().build());
+
+        Page<ActionOverviewDTO> result = actionManagerService.search("depl", ActionSearchMode.TEXT, PageRequest.of(1, 1));
+
+        assertEquals(3, result.getTotalElements());
+        assertEquals("action-3", result.getContent().get(0).getHash());
+        verify(mongoTemplate).count(argThat(query -> query.getQueryObject().containsKey(ActionDocument.Fields.normalizedName)),
+                eq(ActionDocument.class));
+    }
+
     // ==================================================
     // HELPER METHODS
     // ==================================================
@@ -0,0 +1,58 @@
+package com.hoatv.action.manager.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hoatv.action.manager.collections.ActionDocument;
+import com.hoatv.action.manager.collections.JobDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Tests for the merged configurations cache
+ */
+class JobConfigurationCacheTest {
+
+    private static final Map<String, Object> DEFAULT_CONFIGURATIONS = Map.of("templateEngineName", "freemarker");
+
+    private final JobConfigurationCache jobConfigurationCache = new JobConfigurationCache();
+
+    @Test
+    @DisplayName("Should key the merged configurations on the configuration content, not on the job hash")
+    void should_parseAgain_when_configurationsOfSameHashChanged() {
+        ActionDocument actionDocument = ActionDocument.builder().hash("action").configurations("{\"region\": \"eu\"}").build();
+        JobDocument jobDocument = JobDocument.builder().hash("job").configurations("{\"limit\": 1}").build();
+        JobDocument dryRunJob = JobDocument.builder().hash("job").configurations("{\"limit\": 2}").build();
+
+        assertEquals(1, jobConfigurationCache.getConfigurations(jobDocument, actionDocument, DEFAULT_CONFIGURATIONS).get("limit"));
+        assertEquals(2, jobConfigurationCache.parseConfigurations(dryRunJob, actionDocument, DEFAULT_CONFIGURATIONS).get("limit"));
+        Map<String, Object> configurations = jobConfigurationCache.getConfigurations(jobDocument, actionDocument, DEFAULT_CONFIGURATIONS);
+
+        assertEquals(1, configurations.get("limit"));
+        assertEquals("eu", configurations.get("region"));
+        assertEquals("freemarker", configurations.get("templateEngineName"));
+    }
+
+    @Test
+    @DisplayName("Should give every run its own modifiable copy, nested values included")
+    @SuppressWarnings("unchecked")
+    void should_notShareChanges_when_runModifiesConfigurations() {
+        ActionDocument actionDocument = ActionDocument.builder().hash("action").configurations("{}").build();
+        JobDocument jobDocument = JobDocument.builder().hash("job")
+                .configurations("{\"headers\": {\"accept\": \"json\"}, \"ids\": [1, 2]}")
+                .build();
+
+        Map<String, Object> firstRun = jobConfigurationCache.getConfigurations(jobDocument, actionDocument, DEFAULT_CONFIGURATIONS);
+        ((Map<String, Object>) firstRun.get("headers")).put("accept", "xml");
+        ((List<Object>) firstRun.get("ids")).add(3);
+        firstRun.put("limit", 10);
+        Map<String, Object> secondRun = jobConfigurationCache.getConfigurations(jobDocument, actionDocument, DEFAULT_CONFIGURATIONS);
+
+        assertEquals(Map.of("accept", "json"), secondRun.get("headers"));
+        assertEquals(List.of(1, 2), secondRun.get("ids"));
+        assertFalse(secondRun.containsKey("limit"));
+    }
+}
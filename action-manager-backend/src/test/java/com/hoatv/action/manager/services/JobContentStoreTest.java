@@ -0,0 +1,132 @@
+package com.hoatv.action.manager.services;
+
+import com.hoatv.action.manager.collections.JobContentDocument;
+import com.hoatv.action.manager.collections.JobDocument;
+import com.hoatv.action.manager.config.MongoConfig;
+import com.hoatv.action.manager.repositories.JobDocumentRepository;
+import com.hoatv.fwk.common.exceptions.EntityNotFoundException;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataMongoTest(excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MongoConfig.class))
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JobContentStoreTest.TestMongoConfiguration.class)
+@DisabledIfEnvironmentVariable(named = "GITHUB_ACTIONS", matches = "true")
+class JobContentStoreTest {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableMongoRepositories(basePackageClasses = JobDocumentRepository.class)
+    @Import({JobContentStore.class, JobContentCallback.class})
+    static class TestMongoConfiguration {
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobContentStore jobContentStore;
+
+    @Autowired
+    private JobDocumentRepository jobDocumentRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobDocumentRepository.deleteAll();
+        mongoTemplate.remove(new Query(), JobContentDocument.class);
+    }
+
+    @Test
+    void store_shouldShareOneContentBetweenJobsWithTheSameScript() {
+        List<JobDocument> jobDocuments = jobDocumentRepository.saveAll(List.of(
+                JobDocument.builder().actionId("action-shared").jobContent("shared()").contentTemplates("{}").build(),
+                JobDocument.builder().actionId("action-shared").jobContent("shared()").contentTemplates("{}").build()));
+        String contentHash = jobDocuments.get(0).getContentHash();
+
+        assertThat(jobDocuments).extracting(JobDocument::getContentHash).containsOnly(contentHash);
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("_id").is(contentHash)), JobContentDocument.class))
+                .isEqualTo(1);
+        Document storedJob = getStoredJob(jobDocuments.get(1).getHash());
+        assertThat(storedJob).doesNotContainKeys("jobContent", "contentTemplates");
+        JobDocument readJob = jobDocumentRepository.findById(jobDocuments.get(1).getHash()).orElseThrow();
+        assertThat(readJob.getJobContent()).isEqualTo("shared()");
+        assertThat(readJob.getContentTemplates()).isEqualTo("{}");
+    }
+
+    @Test
+    void release_shouldRemoveContentOnceNoJobReferencesIt() {
+        List<JobDocument> jobDocuments = jobDocumentRepository.saveAll(List.of(
+                JobDocument.builder().actionId("action-shared").jobContent("shared()").contentTemplates("{}").build(),
+                JobDocument.builder().actionId("action-shared").jobContent("shared()").contentTemplates("{}").build()));
+        String contentHash = jobDocuments.get(0).getContentHash();
+
+        jobDocumentRepository.delete(jobDocuments.get(0));
+        assertThat(jobContentStore.release(List.of(contentHash))).isEmpty();
+        jobDocumentRepository.deleteByActionId("action-shared");
+        assertThat(jobContentStore.release(List.of(contentHash))).containsExactly(contentHash);
+        assertThat(mongoTemplate.findById(contentHash, JobContentDocument.class)).isNull();
+
+        // A content read before its removal is stored again by the next job using it
+        assertThat(jobContentStore.store("shared()", "{}")).isEqualTo(contentHash);
+        assertThat(mongoTemplate.findById(contentHash, JobContentDocument.class))
+                .extracting(JobContentDocument::getJobContent, JobContentDocument::getReferenceCount)
+                .containsExactly("shared()", 1L);
+    }
+
+    @Test
+    void getContent_shouldFailReadingJobWithoutStoredContent() {
+        insertJob(new Document("_id", "orphan-job")
+                .append("actionId", "action-orphan")
+                .append("contentHash", "missing-content"));
+
+        assertThatThrownBy(() -> jobDocumentRepository.findById("orphan-job"))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("missing-content");
+    }
+
+    @Test
+    void migrateInlineContents_shouldMoveInlineContentsOfExistingJobs() {
+        insertJob(new Document("_id", "legacy-job")
+                .append("actionId", "action-legacy")
+                .append("jobContent", "legacy()")
+                .append("contentTemplates", "[]"));
+        assertThat(jobDocumentRepository.findById("legacy-job").orElseThrow().getJobContent()).isEqualTo("legacy()");
+
+        jobContentStore.migrateInlineContents();
+
+        assertThat(getStoredJob("legacy-job")).containsKey("contentHash").doesNotContainKeys("jobContent", "contentTemplates");
+        JobDocument readJob = jobDocumentRepository.findById("legacy-job").orElseThrow();
+        assertThat(readJob.getJobContent()).isEqualTo("legacy()");
+        assertThat(readJob.getContentTemplates()).isEqualTo("[]");
+    }
+
+    private void insertJob(Document jobDocument) {
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(JobDocument.class)).insertOne(jobDocument);
+    }
+
+    private Document getStoredJob(String jobId) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(JobDocument.class))
+                .find(new Document("_id", jobId))
+                .first();
+    }
+}
@@ -2,9 +2,12 @@ package com.hoatv.action.manager.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,14 +20,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.query.Query;
 
 import com.hoatv.action.manager.collections.JobDocument;
+import com.hoatv.action.manager.collections.JobExecutionStatus;
+import com.hoatv.action.manager.collections.JobResultDocument;
+import com.hoatv.action.manager.collections.JobStatus;
+import com.hoatv.action.manager.collections.JobSummary;
+import com.hoatv.action.manager.dtos.JobDefinitionDTO;
 import com.hoatv.action.manager.dtos.JobOverviewDTO;
 import com.hoatv.action.manager.repositories.JobDocumentRepository;
 import com.hoatv.action.manager.repositories.JobExecutionResultDocumentRepository;
+import com.hoatv.fwk.common.exceptions.InvalidArgumentException;
 
 @ExtendWith(MockitoExtension.class)
 class JobManagerServiceImplTest {
@@ -47,6 +60,33 @@ class JobManagerServiceImplTest {
     @Mock
     private org.springframework.data.mongodb.core.MongoTemplate mongoTemplate;
 
+    @Mock
+    private JobTemplateRenderer jobTemplateRenderer;
+
+    @Mock
+    private JobConfigurationCache jobConfigurationCache;
+
+    @Mock
+    private VirtualThreadJobExecutor virtualThreadJobExecutor;
+
+    @Mock
+    private TimingWheelScheduler timingWheelScheduler;
+
+    @Mock
+    private JobLatencyStatistics jobLatencyStatistics;
+
+    @Mock
+    private JobRunHistoryService jobRunHistoryService;
+
+    @Mock
+    private JobResultWriteBehindBuffer jobResultWriteBehindBuffer;
+
+    @Mock
+    private JobContentStore jobContentStore;
+
+    @Mock
+    private ActionManagerStatistics actionManagerStatistics;
+
     private JobManagerServiceImpl jobManagerService;
 
     @BeforeEach
@@ -57,7 +97,16 @@ class JobManagerServiceImplTest {
             jobManagerStatistics,
             jobExecutionResultDocumentRepository,
             mongoTemplate,
-            kafkaConsumerStatusService
+            kafkaConsumerStatusService,
+            jobTemplateRenderer,
+            jobConfigurationCache,
+            virtualThreadJobExecutor,
+            timingWheelScheduler,
+            jobLatencyStatistics,
+            jobRunHistoryService,
+            jobResultWriteBehindBuffer,
+            jobContentStore,
+            actionManagerStatistics
         );
     }
 
@@ -65,8 +114,8 @@ class JobManagerServiceImplTest {
     void testGetJobsFromActionWithoutSearch() {
         String actionId = "action123";
         PageRequest pageRequest = PageRequest.of(0, 10);
-        List<JobDocument> jobDocuments = Collections.emptyList();
-        Page<JobDocument> jobPage = new PageImpl<>(jobDocuments, pageRequest, 0);
+        List<JobSummary> jobDocuments = Collections.emptyList();
+        Page<JobSummary> jobPage = new PageImpl<>(jobDocuments, pageRequest, 0);
 
         when(jobDocumentRepository.findJobByActionId(eq(actionId), eq(pageRequest)))
             .thenReturn(jobPage);
@@ -85,8 +134,8 @@ class JobManagerServiceImplTest {
     void testGetJobsFromActionWithEmptySearch() {
         String actionId = "action123";
         PageRequest pageRequest = PageRequest.of(0, 10);
-        List<JobDocument> jobDocuments = Collections.emptyList();
-        Page<JobDocument> jobPage = new PageImpl<>(jobDocuments, pageRequest, 0);
+        List<JobSummary> jobDocuments = Collections.emptyList();
+        Page<JobSummary> jobPage = new PageImpl<>(jobDocuments, pageRequest, 0);
 
         when(jobDocumentRepository.findJobByActionId(eq(actionId), eq(pageRequest)))
             .thenReturn(jobPage);
@@ -106,8 +155,8 @@ class JobManagerServiceImplTest {
         String actionId = "action123";
         String searchText = "test";
         PageRequest pageRequest = PageRequest.of(0, 10);
-        List<JobDocument> jobDocuments = Collections.emptyList();
-        Page<JobDocument> jobPage = new PageImpl<>(jobDocuments, pageRequest, 0);
+        List<JobSummary> jobDocuments = Collections.emptyList();
+        Page<JobSummary> jobPage = new PageImpl<>(jobDocuments, pageRequest, 0);
 
         when(jobDocumentRepository.findJobByActionIdAndJobNameContainingIgnoreCase(
             eq(actionId), eq(searchText), eq(pageRequest)))
@@ -130,8 +179,8 @@ class JobManagerServiceImplTest {
         String searchText = "  test  ";
         String trimmedSearchText = "test";
         PageRequest pageRequest = PageRequest.of(0, 10);
-        List<JobDocument> jobDocuments = Collections.emptyList();
-        Page<JobDocument> jobPage = new PageImpl<>(jobDocuments, pageRequest, 0);
+        List<JobSummary> jobDocuments = Collections.emptyList();
+        Page<JobSummary> jobPage = new PageImpl<>(jobDocuments, pageRequest, 0);
 
         when(jobDocumentRepository.findJobByActionIdAndJobNameContainingIgnoreCase(
             eq(actionId), eq(trimmedSearchText), eq(pageRequest)))
@@ -145,4 +194,71 @@ class JobManagerServiceImplTest {
         verify(jobDocumentRepository).findJobByActionIdAndJobNameContainingIgnoreCase(
             eq(actionId), eq(trimmedSearchText), eq(pageRequest));
     }
+
+    @Test
+    void testGetJobsFromActionJoinsResultsAndKeepsJobsWithoutResult() {
+        String actionId = "action123";
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        JobSummary jobWithResult = new JobSummary("job-1", "Job 1", actionId, JobStatus.ACTIVE, false, 0);
+        JobSummary jobWithoutResult = new JobSummary("job-2", "Job 2", actionId, JobStatus.ACTIVE, false, 0);
+        Page<JobSummary> jobPage = new PageImpl<>(List.of(jobWithResult, jobWithoutResult), pageRequest, 2);
+        JobResultDocument jobResult = JobResultDocument.builder()
+            .jobId("job-1").jobExecutionStatus(JobExecutionStatus.SUCCESS).build();
+
+        when(jobDocumentRepository.findJobByActionId(eq(actionId), eq(pageRequest)))
+            .thenReturn(jobPage);
+        when(jobExecutionResultDocumentRepository.findByJobIdIn(any()))
+            .thenReturn(List.of(jobResult));
+
+        Page<JobOverviewDTO> result = jobManagerService.getJobsFromAction(actionId, pageRequest, null);
+
+        assertEquals(2, result.getContent().size());
+        assertEquals("SUCCESS", result.getContent().get(0).getJobExecutionStatus());
+        assertNotNull(result.getContent().get(1));
+        assertEquals("", result.getContent().get(1).getJobExecutionStatus());
+    }
+
+    @Test
+    void testInitialJobsRemovesInsertedJobsWhenResultInsertFails() {
+        String actionId = "action123";
+        BulkOperations jobBulkOperations = mock(BulkOperations.class);
+        BulkOperations jobResultBulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobDocument.class)).thenReturn(jobBulkOperations);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobResultDocument.class)).thenReturn(jobResultBulkOperations);
+        when(jobBulkOperations.insert(anyList())).thenReturn(jobBulkOperations);
+        when(jobResultBulkOperations.insert(anyList())).thenReturn(jobResultBulkOperations);
+        when(jobResultBulkOperations.execute()).thenThrow(new IllegalStateException("Write failed"));
+        List<JobDefinitionDTO> jobDefinitionDTOs = List.of(JobDefinitionDTO.builder().jobName("Job 1").jobContent("run()").build());
+
+        assertThrows(IllegalStateException.class, () -> jobManagerService.initialJobs(jobDefinitionDTOs, actionId));
+
+        verify(mongoTemplate).remove(any(Query.class), eq(JobResultDocument.class));
+        verify(mongoTemplate).remove(any(Query.class), eq(JobDocument.class));
+        verify(jobContentStore).release(any());
+    }
+
+    @Test
+    void testGetOverviewJobsByStatusRejectsSortOtherThanCreatedAt() {
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(JobDocument.Fields.jobName));
+
+        assertThrows(InvalidArgumentException.class,
+                () -> jobManagerService.getOverviewJobs(pageRequest, JobExecutionStatus.FAILURE));
+
+        verify(jobResultWriteBehindBuffer, never()).flush();
+    }
+
+    @Test
+    void testInitialJobReleasesStoredContentWhenJobSaveFails() {
+        when(jobDocumentRepository.save(any(JobDocument.class))).thenAnswer(invocation -> {
+            // The content is stored and referenced before the job is written
+            invocation.<JobDocument>getArgument(0).setContentHash("content-1");
+            throw new DuplicateKeyException("Duplicate job");
+        });
+        JobDefinitionDTO jobDefinitionDTO = JobDefinitionDTO.builder().jobName("Job 1").jobContent("run()").build();
+
+        assertThrows(DuplicateKeyException.class, () -> jobManagerService.initialJobs(jobDefinitionDTO, "action123"));
+
+        verify(jobContentStore).release(List.of("content-1"));
+        verify(jobExecutionResultDocumentRepository, never()).save(any());
+    }
 }
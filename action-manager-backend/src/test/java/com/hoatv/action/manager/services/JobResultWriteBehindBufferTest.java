@@ -0,0 +1,91 @@
+package com.hoatv.action.manager.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.hoatv.action.manager.collections.JobExecutionStatus;
+import com.hoatv.action.manager.collections.JobResultDocument;
+import com.hoatv.action.manager.collections.JobState;
+
+@ExtendWith(MockitoExtension.class)
+class JobResultWriteBehindBufferTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private JobResultWriteBehindBuffer jobResultWriteBehindBuffer;
+
+    @BeforeEach
+    void setUp() {
+        jobResultWriteBehindBuffer = new JobResultWriteBehindBuffer(mongoTemplate, true, 500);
+    }
+
+    @Test
+    void testFlushWritesOnlyLatestStateOfJobResult() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobResultDocument.class)).thenReturn(bulkOperations);
+        JobResultDocument jobResultDocument = JobResultDocument.builder().hash("result-1").build();
+
+        jobResultDocument.setJobExecutionStatus(JobExecutionStatus.PROCESSING);
+        jobResultWriteBehindBuffer.submit(jobResultDocument);
+        jobResultDocument.setJobState(JobState.COMPLETED);
+        jobResultDocument.setJobExecutionStatus(JobExecutionStatus.SUCCESS);
+        jobResultWriteBehindBuffer.submit(jobResultDocument);
+        jobResultWriteBehindBuffer.flush();
+
+        verify(bulkOperations, times(1)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations).execute();
+        assertEquals(0, jobResultWriteBehindBuffer.getNumberOfPendingJobResults());
+        assertEquals(0, jobResultWriteBehindBuffer.getWriteBehindLagInMs());
+    }
+
+    @Test
+    void testApplyPendingOverlaysUnwrittenState() {
+        JobResultDocument pendingDocument = JobResultDocument.builder()
+                .hash("result-1")
+                .jobExecutionStatus(JobExecutionStatus.FAILURE)
+                .failureNotes("timeout")
+                .build();
+        jobResultWriteBehindBuffer.submit(pendingDocument);
+
+        JobResultDocument persistedDocument = JobResultDocument.builder()
+                .hash("result-1")
+                .jobExecutionStatus(JobExecutionStatus.PROCESSING)
+                .build();
+        jobResultWriteBehindBuffer.applyPending(persistedDocument);
+
+        assertEquals(JobExecutionStatus.FAILURE, persistedDocument.getJobExecutionStatus());
+        assertEquals("timeout", persistedDocument.getFailureNotes());
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(JobResultDocument.class));
+    }
+
+    @Test
+    void testSubmitAfterShutdownWritesRightAway() {
+        jobResultWriteBehindBuffer.init();
+        jobResultWriteBehindBuffer.destroy();
+        JobResultDocument jobResultDocument = JobResultDocument.builder().hash("result-1").build();
+        jobResultDocument.setJobExecutionStatus(JobExecutionStatus.SUCCESS);
+
+        jobResultWriteBehindBuffer.submit(jobResultDocument);
+
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(JobResultDocument.class));
+        assertEquals(0, jobResultWriteBehindBuffer.getNumberOfPendingJobResults());
+    }
+}
@@ -0,0 +1,38 @@
+package com.hoatv.action.manager.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests for percentile estimation of the latency histogram
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should report percentiles within the bucket precision")
+    void should_reportPercentiles_when_latenciesRecorded() {
+        LatencyHistogram latencyHistogram = new LatencyHistogram(60000, 2);
+        for (long latency = 1; latency <= 1000; latency++) {
+            latencyHistogram.record(latency);
+        }
+
+        assertEquals(1000, latencyHistogram.getTotalCount());
+        assertEquals(1000, latencyHistogram.getMaxValue());
+        assertEquals(500, latencyHistogram.getValueAtPercentile(50), 500 * 0.07);
+        assertEquals(950, latencyHistogram.getValueAtPercentile(95), 950 * 0.07);
+        assertEquals(990, latencyHistogram.getValueAtPercentile(99), 990 * 0.07);
+        assertEquals(1000, latencyHistogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Should report zero when nothing is recorded")
+    void should_reportZero_when_empty() {
+        LatencyHistogram latencyHistogram = new LatencyHistogram(60000, 2);
+
+        assertEquals(0, latencyHistogram.getTotalCount());
+        assertEquals(0, latencyHistogram.getValueAtPercentile(99));
+    }
+}
@@ -0,0 +1,125 @@
+package com.hoatv.action.manager.utils;
+
+import com.hoatv.action.manager.collections.JobDocument;
+import com.hoatv.action.manager.collections.JobStatus;
+import com.hoatv.action.manager.config.MongoConfig;
+import com.hoatv.action.manager.repositories.JobDocumentRepository;
+import com.hoatv.action.manager.services.JobContentCallback;
+import com.hoatv.action.manager.services.JobContentStore;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest(excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MongoConfig.class))
+@ActiveProfiles("test")
+@ContextConfiguration(classes = KeysetCursorTest.TestMongoConfiguration.class)
+@DisabledIfEnvironmentVariable(named = "GITHUB_ACTIONS", matches = "true")
+class KeysetCursorTest {
+
+    private static final Sort JOB_KEYSET_SORT = Sort.by(Sort.Order.desc(JobDocument.Fields.createdAt),
+            Sort.Order.desc(JobDocument.Fields.hash));
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableMongoRepositories(basePackageClasses = JobDocumentRepository.class)
+    @Import({JobContentStore.class, JobContentCallback.class})
+    static class TestMongoConfiguration {
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobDocumentRepository jobDocumentRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobDocumentRepository.deleteAll();
+        for (int index = 0; index < 20; index++) {
+            jobDocumentRepository.save(JobDocument.builder()
+                    .jobName("Job " + index)
+                    .actionId("action-" + index % 4)
+                    .jobStatus(JobStatus.ACTIVE)
+                    // Pairs of jobs created within the same second
+                    .createdAt(index / 2)
+                    .jobContent("function run() { return " + index + "; }")
+                    .build());
+        }
+    }
+
+    @Test
+    void after_shouldVisitEachJobOnceInSortOrder() {
+        List<String> expectedHashes = mongoTemplate.find(new Query().with(JOB_KEYSET_SORT), JobDocument.class).stream()
+                .map(JobDocument::getHash)
+                .toList();
+
+        List<String> visitedHashes = new ArrayList<>();
+        String cursor = null;
+        do {
+            List<JobDocument> page = mongoTemplate.find(getPageQuery(new Query(), cursor), JobDocument.class);
+            page.forEach(jobDocument -> visitedHashes.add(jobDocument.getHash()));
+            JobDocument lastJobDocument = page.isEmpty() ? null : page.getLast();
+            cursor = lastJobDocument == null ? null
+                    : KeysetCursor.encode(List.of(lastJobDocument.getCreatedAt(), lastJobDocument.getHash()));
+        } while (cursor != null);
+
+        assertThat(visitedHashes).containsExactlyElementsOf(expectedHashes);
+    }
+
+    @Test
+    void after_shouldUseIndexForCursorPagesOfJobs() {
+        JobDocument jobDocument = mongoTemplate.find(new Query().with(JOB_KEYSET_SORT).limit(10), JobDocument.class).getLast();
+        String cursor = KeysetCursor.encode(List.of(jobDocument.getCreatedAt(), jobDocument.getHash()));
+
+        // Cursor pages of the job overview and of the jobs of an action
+        assertUsesIndex(getPageQuery(new Query(), cursor));
+        assertUsesIndex(getPageQuery(Query.query(Criteria.where(JobDocument.Fields.actionId).is("action-1")), cursor));
+    }
+
+    private static Query getPageQuery(Query query, String cursor) {
+        if (cursor != null) {
+            query.addCriteria(KeysetCursor.after(JOB_KEYSET_SORT, KeysetCursor.decode(cursor, 2)));
+        }
+        return query.with(JOB_KEYSET_SORT).limit(3);
+    }
+
+    /**
+     * Explain the query as sent to the collection, with the field names mapped to the stored ones
+     */
+    private void assertUsesIndex(Query query) {
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        MongoPersistentEntity<?> jobEntity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(JobDocument.class);
+        Document filter = queryMapper.getMappedObject(query.getQueryObject(), jobEntity);
+        Document sort = queryMapper.getMappedSort(query.getSortObject(), jobEntity);
+        Document explanation = mongoTemplate.getCollection(mongoTemplate.getCollectionName(JobDocument.class))
+                .find(filter)
+                .sort(sort)
+                .limit(query.getLimit())
+                .explain();
+        String winningPlan = explanation.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+        assertThat(winningPlan).as("Winning plan of %s", filter.toJson()).contains("IXSCAN").doesNotContain("COLLSCAN");
+    }
+}
@@ -29,6 +29,7 @@ export class SearchService {
       search: query,
       pageIndex: pageIndex.toString(),
       pageSize: pageSize.toString(),
+      mode: 'TEXT',
     });
 
     const response = await fetch(